@@ -0,0 +1,77 @@
+package com.ci_dominguez.ade_backend.benchmark;
+
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.HomeDetails;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds in-memory homes shaped like production listings for the benchmarks
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a home with details: a 25 photo gallery, a handful of highlights and a nested facts map
+     *
+     * @param id The id to assign
+     * @return A Home with its HomeDetails attached
+     */
+    static Home home(long id) {
+        Home home = new Home();
+        home.setId(id);
+        home.setAddress(id + " Maple Grove Ave, Springfield, IL 62704");
+        home.setCost(new BigDecimal(350_000 + id * 1_250));
+        home.setBedrooms(new BigDecimal(2 + id % 4));
+        home.setBathrooms(new BigDecimal("2.5"));
+        home.setLivableAreaSize("2,150 sqft");
+        home.setLotSize("0.25 acres");
+        home.setHomeType("Single Family Residence");
+        home.setYearBuilt(1960 + (int) (id % 60));
+        home.setMainImgUrl("https://images.example.com/homes/" + id + "/main.jpg");
+        home.setOverview("Beautifully updated home on a quiet, tree-lined street. ".repeat(12));
+
+        List<String> photoGallery = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            photoGallery.add("https://images.example.com/homes/" + id + "/photo-" + i + ".jpg");
+        }
+
+        Map<String, Object> interior = new LinkedHashMap<>();
+        interior.put("heating", "Forced air, natural gas");
+        interior.put("cooling", "Central air");
+        interior.put("appliances", List.of("Dishwasher", "Range", "Refrigerator", "Washer", "Dryer"));
+        interior.put("flooring", List.of("Hardwood", "Tile", "Carpet"));
+        Map<String, Object> facts = new LinkedHashMap<>();
+        facts.put("interior", interior);
+        facts.put("parking", Map.of("garageSpaces", 2, "type", "Attached garage"));
+        facts.put("hoa", Map.of("hasHoa", false));
+        facts.put("propertyTaxes", 6_432.18);
+        facts.put("stories", 2);
+
+        HomeDetails details = new HomeDetails();
+        details.setId(id);
+        details.setHome(home);
+        details.setPhotoGallery(photoGallery);
+        details.setWhatsSpecial(List.of("Renovated kitchen", "Fenced backyard", "Walk to schools", "New roof (2021)"));
+        details.setFacts(facts);
+        home.setHomeDetails(details);
+        return home;
+    }
+
+    /**
+     * Creates count consecutive homes starting at id 1
+     */
+    static List<Home> homes(int count) {
+        List<Home> homes = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            homes.add(home(id));
+        }
+        return homes;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ci_dominguez.ade_backend.benchmark;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.service.HomeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion used by the listing and details endpoints
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HomeConversionBenchmark {
+
+    private Home home;
+
+    @Setup
+    public void createHome() {
+        home = BenchmarkFixtures.home(42);
+    }
+
+    /////////////////////Benchmarks/////////////////////
+    @Benchmark
+    public HomeCardDTO convertToHomeCardDTO() {
+        return HomeMapper.toHomeCardDTO(home);
+    }
+
+    @Benchmark
+    public HomeDetailsDTO convertToHomeDetailsDTO() {
+        return HomeMapper.toHomeDetailsDTO(home);
+    }
+}
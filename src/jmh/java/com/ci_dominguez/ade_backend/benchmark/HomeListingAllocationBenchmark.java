@@ -0,0 +1,83 @@
+package com.ci_dominguez.ade_backend.benchmark;
+
+import com.ci_dominguez.ade_backend.AdeBackendApplication;
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import com.ci_dominguez.ade_backend.service.HomeMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one listing page loaded as Home entities and copied into HomeCardDTO (the previous path)
+ * with the same page projected straight into HomeCardDTO by HomeRepository
+ * Run against the database configured by DATABASE_URL/DATABASE_USERNAME/DATABASE_PASSWORD with the GC profiler
+ * and compare gc.alloc.rate.norm (bytes allocated per page):
+ *  mvn -Pbenchmark test-compile exec:exec -Djmh.args="HomeListingAllocationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HomeListingAllocationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private EntityManager entityManager;
+
+    private HomeRepository homeRepository;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(AdeBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        homeRepository = context.getBean(HomeRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /////////////////////Benchmarks/////////////////////
+    @Benchmark
+    public List<HomeCardDTO> entityListing() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT h FROM Home h ORDER BY h.id", Home.class)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(HomeMapper::toHomeCardDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<HomeCardDTO> projectedListing() {
+        return readOnlyTransaction.execute(status -> homeRepository
+                .findHomesWithFilterAndSort(null, HomeSortKey.ID, PageRequest.of(0, pageSize))
+                .getContent());
+    }
+}
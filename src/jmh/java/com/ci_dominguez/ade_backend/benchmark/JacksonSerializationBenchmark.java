@@ -0,0 +1,67 @@
+package com.ci_dominguez.ade_backend.benchmark;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.service.HomeMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the listing page and details responses
+ * Uses an ObjectMapper built with Spring's defaults, like the one serving the controllers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private HomeDetailsDTO homeDetails;
+
+    @Setup
+    public void createHomeDetails() {
+        homeDetails = HomeMapper.toHomeDetailsDTO(BenchmarkFixtures.home(42));
+    }
+
+    /**
+     * Listing page of the given size out of a 1000 home catalogue
+     */
+    @State(Scope.Benchmark)
+    public static class HomeCardPage {
+        @Param({"20", "100"})
+        private int pageSize;
+
+        private Page<HomeCardDTO> page;
+
+        @Setup
+        public void createPage() {
+            List<HomeCardDTO> cards = BenchmarkFixtures.homes(pageSize).stream()
+                    .map(HomeMapper::toHomeCardDTO)
+                    .toList();
+            page = new PageImpl<>(cards, PageRequest.of(0, pageSize), 1_000);
+        }
+    }
+
+    /////////////////////Benchmarks/////////////////////
+    @Benchmark
+    public byte[] serializeHomeCardPage(HomeCardPage homeCardPage) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(homeCardPage.page);
+    }
+
+    @Benchmark
+    public byte[] serializeHomeDetails() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(homeDetails);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ci_dominguez.ade_backend.benchmark;
+
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.Visits;
+import com.ci_dominguez.ade_backend.validation.SubmissionValidator;
+import jakarta.validation.ValidationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-submission validation cost of the former String.matches checks versus SubmissionValidator
+ * Run with the GC profiler to compare allocations as well:
+ *  mvn -Pbenchmark test-compile exec:exec -Djmh.args="SubmissionValidationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubmissionValidationBenchmark {
+
+    private final SubmissionValidator submissionValidator = new SubmissionValidator();
+
+    private ContactMessage contactMessage;
+
+    private Visits visitReq;
+
+    @Setup
+    public void createSubmissions() {
+        contactMessage = new ContactMessage();
+        contactMessage.setName("Jordan Rivera");
+        contactMessage.setEmail("jordan.rivera+homes@example.com");
+        contactMessage.setPhoneNumber("555-867-5309");
+        contactMessage.setMessage("Hi, I'd like to know more about the listing on Elm Street and whether the seller is flexible.");
+
+        Home home = new Home();
+        home.setId(42L);
+        visitReq = new Visits();
+        visitReq.setHome(home);
+        visitReq.setVisitorName("Jordan Rivera");
+        visitReq.setVisitorEmail("jordan.rivera+homes@example.com");
+        visitReq.setVisitorPhoneNumber("555-867-5309");
+        visitReq.setVisitorComment("Weekday mornings work best for me.");
+        visitReq.setRequestedDate(LocalDateTime.now().plusYears(1));
+    }
+
+    /////////////////////Benchmarks/////////////////////
+    @Benchmark
+    public ContactMessage contactMessageWithStringMatches() {
+        legacyValidate(contactMessage);
+        return contactMessage;
+    }
+
+    @Benchmark
+    public ContactMessage contactMessageWithValidator() {
+        submissionValidator.validate(contactMessage);
+        return contactMessage;
+    }
+
+    @Benchmark
+    public Visits visitWithStringMatches() {
+        legacyValidate(visitReq);
+        return visitReq;
+    }
+
+    @Benchmark
+    public Visits visitWithValidator() {
+        submissionValidator.validate(visitReq);
+        return visitReq;
+    }
+
+    /////////////////////Baselines/////////////////////
+    //Copied from ContactMessageService before the SubmissionValidator was introduced
+    private static void legacyValidate(ContactMessage contactMessage) {
+        if (!contactMessage.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+            throw new ValidationException("Invalid email format");
+        }
+        if (!contactMessage.getPhoneNumber().matches("^\\d{3}-\\d{3}-\\d{4}$")) {
+            throw new ValidationException("Invalid phone number format");
+        }
+        if (contactMessage.getName().isEmpty() || contactMessage.getMessage().isEmpty()
+                || contactMessage.getEmail().isEmpty() || contactMessage.getPhoneNumber().isEmpty()) {
+            throw new ValidationException("All fields are required");
+        }
+    }
+
+    //Copied from VisitsService before the SubmissionValidator was introduced
+    private static void legacyValidate(Visits visitReq) {
+        if (!visitReq.getVisitorEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+            throw new ValidationException("Invalid email format");
+        }
+        if (!visitReq.getVisitorPhoneNumber().matches("^\\d{3}-\\d{3}-\\d{4}$")) {
+            throw new ValidationException("Invalid phone number format");
+        }
+        if (visitReq.getRequestedDate().isBefore(LocalDateTime.now())) {
+            throw new ValidationException("Requested date must be in the future");
+        }
+        if (visitReq.getVisitorName().isEmpty() || visitReq.getVisitorEmail().isEmpty()
+                || visitReq.getVisitorPhoneNumber().isEmpty() || visitReq.getVisitorComment().isEmpty()
+                || visitReq.getRequestedDate() == null) {
+            throw new ValidationException("All fields are required");
+        }
+    }
+}
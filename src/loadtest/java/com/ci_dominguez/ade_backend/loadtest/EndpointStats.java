@@ -0,0 +1,67 @@
+package com.ci_dominguez.ade_backend.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency samples and error count of one endpoint during a load test run
+ */
+class EndpointStats {
+    /////////////////////Instance Variables/////////////////////
+    private final String name;
+
+    private long[] latenciesNanos = new long[1024];
+
+    private int count;
+
+    private int errors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Records one completed request
+     *
+     * @param latencyNanos Time from the request's scheduled send time until its response arrived
+     * @param success Whether the request returned a 2xx status
+     */
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Formats one row of the final report
+     *
+     * @param elapsedNanos Duration of the run, used for the throughput column
+     * @return the endpoint's report row
+     */
+    synchronized String reportRow(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        double throughput = count / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        return String.format("%-22s %9d %7d %12.1f %9.2f %9.2f %9.2f",
+                name, count, errors, throughput,
+                percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99));
+    }
+
+    static String reportHeader() {
+        return String.format("%-22s %9s %7s %12s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
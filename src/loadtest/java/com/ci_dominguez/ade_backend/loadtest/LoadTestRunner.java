@@ -0,0 +1,222 @@
+package com.ci_dominguez.ade_backend.loadtest;
+
+import com.ci_dominguez.ade_backend.AdeBackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load generator for the public API
+ * Starts an embedded Postgres, boots the application against it on a random port, seeds it and
+ * then drives the four public endpoints at a fixed arrival rate, printing per endpoint latency percentiles,
+ * throughput and error counts
+ *
+ * Requests are scheduled open-loop: latency is measured from each request's scheduled send time, so a
+ * slow server shows up as higher percentiles instead of silently lowering the offered rate
+ *
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--loadtest.rate=200 --loadtest.duration-seconds=60"
+ * Any other --key=value argument is passed to the application, e.g. --ade.ingestion.visits.async=true
+ */
+public class LoadTestRunner {
+
+    private static final String[] FILTERS = {"Maple", "Oak", "Cedar", "Springfield", "Ave"};
+
+    private static final String[] SORT_KEYS = {"id", "cost", "bedrooms", "bathrooms"};
+
+    /////////////////////Instance Variables/////////////////////
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final List<Long> homeIds;
+
+    private final int listingPages;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final EndpointStats listing = new EndpointStats("GET /homes");
+
+    private final EndpointStats details = new EndpointStats("GET /homes/{id}");
+
+    private final EndpointStats contactMessages = new EndpointStats("POST /contact-messages");
+
+    private final EndpointStats visits = new EndpointStats("POST /visit-requests");
+
+    LoadTestRunner(HttpClient client, String baseUrl, List<Long> homeIds) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.homeIds = homeIds;
+        this.listingPages = Math.max(1, homeIds.size() / 20);
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            // The datasource placeholders and these overrides sit above application.properties but below
+            // command line arguments, so anything passed in loadtest.args still wins
+            System.setProperty("DATABASE_URL", postgres.getJdbcUrl("postgres", "postgres"));
+            System.setProperty("DATABASE_USERNAME", "postgres");
+            System.setProperty("DATABASE_PASSWORD", "");
+            System.setProperty("server.port", "0");
+            System.setProperty("logging.level.root", "WARN");
+            SpringApplication application = new SpringApplication(AdeBackendApplication.class);
+
+            try (ConfigurableApplicationContext context = application.run(args)) {
+                Environment environment = context.getEnvironment();
+                int homes = environment.getProperty("loadtest.homes", Integer.class, 1_000);
+                int seededVisits = environment.getProperty("loadtest.visits", Integer.class, 5_000);
+                int seededMessages = environment.getProperty("loadtest.contact-messages", Integer.class, 5_000);
+                int rate = environment.getProperty("loadtest.rate", Integer.class, 100);
+                int warmupSeconds = environment.getProperty("loadtest.warmup-seconds", Integer.class, 10);
+                int durationSeconds = environment.getProperty("loadtest.duration-seconds", Integer.class, 30);
+                int[] mix = environment.getProperty("loadtest.mix", int[].class, new int[]{50, 35, 10, 5});
+
+                LoadTestSeeder seeder = new LoadTestSeeder(new JdbcTemplate(context.getBean(DataSource.class)));
+                List<Long> homeIds = seeder.seed(homes, seededVisits, seededMessages);
+                System.out.printf("Seeded %d homes, %d visits, %d contact messages%n", homeIds.size(), seededVisits, seededMessages);
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    HttpClient client = HttpClient.newBuilder()
+                            .executor(executor)
+                            .connectTimeout(Duration.ofSeconds(5))
+                            .build();
+
+                    if (warmupSeconds > 0) {
+                        System.out.printf("Warming up for %ds at %d req/s%n", warmupSeconds, rate);
+                        new LoadTestRunner(client, "http://localhost:" + port, homeIds).run(rate, warmupSeconds, mix);
+                    }
+                    System.out.printf("Measuring for %ds at %d req/s%n", durationSeconds, rate);
+                    LoadTestRunner runner = new LoadTestRunner(client, "http://localhost:" + port, homeIds);
+                    long elapsed = runner.run(rate, durationSeconds, mix);
+                    runner.printReport(elapsed);
+                }
+            }
+        }
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Sends requests at the given rate for the given duration and waits for the stragglers
+     *
+     * @param rate Requests per second across all endpoints
+     * @param durationSeconds How long to keep sending
+     * @param mix Relative weights of listing, details, contact message and visit requests
+     * @return The elapsed time of the run in nanoseconds
+     */
+    long run(int rate, int durationSeconds, int[] mix) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * durationSeconds;
+        int mixTotal = 0;
+        for (int weight : mix) {
+            mixTotal += weight;
+        }
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait;
+            while ((wait = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            int pick = ThreadLocalRandom.current().nextInt(mixTotal);
+            if ((pick -= mix[0]) < 0) {
+                send(listing, listingRequest(), scheduledAt);
+            } else if ((pick -= mix[1]) < 0) {
+                send(details, detailsRequest(), scheduledAt);
+            } else if ((pick -= mix[2]) < 0) {
+                send(contactMessages, contactMessageRequest(), scheduledAt);
+            } else {
+                send(visits, visitRequest(), scheduledAt);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void send(EndpointStats stats, HttpRequest request, long scheduledAt) {
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    boolean success = error == null && response.statusCode() / 100 == 2;
+                    stats.record(System.nanoTime() - scheduledAt, success);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private HttpRequest listingRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder uri = new StringBuilder(baseUrl).append("/api/public/homes?size=20&page=")
+                .append(random.nextInt(listingPages))
+                .append("&sortBy=").append(SORT_KEYS[random.nextInt(SORT_KEYS.length)]);
+        if (random.nextInt(4) == 0) {
+            uri.append("&filter=").append(FILTERS[random.nextInt(FILTERS.length)]);
+        }
+        return get(uri.toString());
+    }
+
+    private HttpRequest detailsRequest() {
+        Long homeId = homeIds.get(ThreadLocalRandom.current().nextInt(homeIds.size()));
+        return get(baseUrl + "/api/public/homes/" + homeId);
+    }
+
+    private HttpRequest contactMessageRequest() {
+        int n = ThreadLocalRandom.current().nextInt(1_000_000);
+        return post(baseUrl + "/api/public/contact-messages", """
+                {"name":"Load Test %d","email":"load%d@example.com","phoneNumber":"555-030-%04d","message":"Is this home still available?"}
+                """.formatted(n, n, n % 10_000));
+    }
+
+    private HttpRequest visitRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(1_000_000);
+        Long homeId = homeIds.get(random.nextInt(homeIds.size()));
+        LocalDateTime requestedDate = LocalDateTime.now().plusDays(1 + random.nextInt(30)).withNano(0);
+        return post(baseUrl + "/api/public/visit-requests", """
+                {"home":{"id":%d},"visitorName":"Load Test %d","visitorEmail":"visit%d@example.com",\
+                "visitorPhoneNumber":"555-040-%04d","visitorComment":"Weekday afternoons work best.","requestedDate":"%s","type":"FIRST_VIEWING"}
+                """.formatted(homeId, n, n, n % 10_000, requestedDate));
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(10)).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void printReport(long elapsedNanos) {
+        System.out.println();
+        System.out.println(EndpointStats.reportHeader());
+        for (EndpointStats stats : List.of(listing, details, contactMessages, visits)) {
+            System.out.println(stats.reportRow(elapsedNanos));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ci_dominguez.ade_backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inserts synthetic homes, homeDetails, visits and contactMessages with plain JDBC batches
+ * Runs after Hibernate has created the schema, so the physical (snake_case) names are used
+ */
+class LoadTestSeeder {
+
+    private static final String[] STREETS = {"Maple", "Oak", "Cedar", "Elm", "Willow", "Birch", "Aspen", "Pine"};
+
+    private static final String[] SUFFIXES = {"St", "Ave", "Blvd", "Ln", "Ct", "Way"};
+
+    private static final String[] CITIES = {"Springfield, IL", "Riverside, CA", "Franklin, TN", "Madison, WI"};
+
+    private static final String[] HOME_TYPES = {"Single Family Residence", "Townhouse", "Condo", "Multi Family"};
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Seeds the requested number of rows
+     *
+     * @return The ids of the seeded homes
+     */
+    List<Long> seed(int homes, int visits, int contactMessages) {
+        List<Long> homeIds = seedHomes(homes);
+        seedVisits(homeIds, visits);
+        seedContactMessages(contactMessages);
+        return homeIds;
+    }
+
+    private List<Long> seedHomes(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String address = (100 + random.nextInt(9_900)) + " " + STREETS[random.nextInt(STREETS.length)] + " "
+                    + SUFFIXES[random.nextInt(SUFFIXES.length)] + ", " + CITIES[random.nextInt(CITIES.length)];
+            rows.add(new Object[]{address, 150_000 + random.nextInt(1_850_000), 1 + random.nextInt(6),
+                    1 + random.nextInt(8) / 2.0, (800 + random.nextInt(4_200)) + " sqft", "0." + random.nextInt(10) + " acres",
+                    "Load test listing. ".repeat(10), HOME_TYPES[random.nextInt(HOME_TYPES.length)],
+                    1900 + random.nextInt(125), "https://images.example.com/load-test/" + i + ".jpg", now, now});
+        }
+        batchInsert("INSERT INTO homes (address, cost, bedrooms, bathrooms, livable_area_size, lot_size, overview, " +
+                "home_type, year_built, main_img_url, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        List<Long> homeIds = jdbcTemplate.queryForList("SELECT id FROM homes ORDER BY id", Long.class);
+        List<Object[]> details = new ArrayList<>(homeIds.size());
+        for (Long homeId : homeIds) {
+            StringBuilder gallery = new StringBuilder("{");
+            for (int photo = 1; photo <= 20; photo++) {
+                gallery.append(photo == 1 ? "" : ",").append("https://images.example.com/load-test/")
+                        .append(homeId).append('/').append(photo).append(".jpg");
+            }
+            gallery.append('}');
+            details.add(new Object[]{homeId, gallery.toString(), "{\"Updated kitchen\",\"Large backyard\"}",
+                    "{\"heating\":\"Forced air\",\"cooling\":\"Central\",\"parking\":{\"garageSpaces\":2}}"});
+        }
+        batchInsert("INSERT INTO home_details (home_id, photo_gallery, whats_special, facts) " +
+                "VALUES (?, ?::text[], ?::text[], ?::jsonb)", details);
+        return homeIds;
+    }
+
+    private void seedVisits(List<Long> homeIds, int count) {
+        if (homeIds.isEmpty()) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Timestamp requested = Timestamp.valueOf(LocalDateTime.now().plusDays(1 + random.nextInt(60)));
+            rows.add(new Object[]{homeIds.get(random.nextInt(homeIds.size())), "Visitor " + i, "visitor" + i + "@example.com",
+                    "555-010-" + String.format("%04d", i % 10_000), "Looking forward to it.", requested, "REQUESTED",
+                    "FIRST_VIEWING", now, now});
+        }
+        batchInsert("INSERT INTO visits (id, home_id, visitor_name, visitor_email, visitor_phone_number, visitor_comment, " +
+                "requested_date, status, type, created_at, updated_at) " +
+                "VALUES (nextval('visits_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void seedContactMessages(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"Contact " + i, "contact" + i + "@example.com", "555-020-" + String.format("%04d", i % 10_000),
+                    "Please send me more information.", now, "NEW", now});
+        }
+        batchInsert("INSERT INTO contact_messages (id, name, email, phone_number, message, created_at, status, updated_at) " +
+                "VALUES (nextval('contact_messages_seq'), ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
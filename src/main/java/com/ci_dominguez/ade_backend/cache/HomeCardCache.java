@@ -0,0 +1,176 @@
+package com.ci_dominguez.ade_backend.cache;
+
+import com.ci_dominguez.ade_backend.dto.CacheStatsDTO;
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.event.HomeChangedEvent;
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting cache of home listing pages
+ * Entries are kept in least-recently-used order and the whole cache is dropped
+ * whenever a Home row is persisted, updated or removed
+ * Guarded by a ReentrantLock rather than synchronized so request threads waiting on it never pin a
+ * virtual thread's carrier
+ */
+@Component
+public class HomeCardCache {
+    private static final Logger logger = LoggerFactory.getLogger(HomeCardCache.class);
+
+    /////////////////////Instance Variables/////////////////////
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    //Access-ordered so the eldest entry is always the least recently used one
+    private final LinkedHashMap<ListingKey, CachedPage> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    //Bumped on every invalidation so loads that started before it are not cached
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    public HomeCardCache(@Value("${ade.cache.home-cards.max-entries:500}") int maxEntries,
+                         @Value("${ade.cache.home-cards.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Returns the cached page for the given listing parameters, loading and caching it on a miss
+     * The loader runs outside the cache lock so a slow query never blocks other lookups
+     *
+     * @param filter Optional address filter
+     * @param sortKey The resolved sort key
+     * @param pageable The requested page
+     * @param loader Supplies the page from the database on a miss
+     * @return The cached or freshly loaded page
+     */
+    public Page<HomeCardDTO> getOrLoad(String filter, HomeSortKey sortKey, Pageable pageable, Supplier<Page<HomeCardDTO>> loader) {
+        ListingKey key = ListingKey.of(filter, sortKey, pageable);
+        long loadGeneration;
+        lock.lock();
+        try {
+            CachedPage cached = entries.get(key);
+            if (cached != null) {
+                if (!cached.isExpired(System.nanoTime())) {
+                    hits.increment();
+                    return cached.page;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        Page<HomeCardDTO> page = loader.get();
+
+        lock.lock();
+        try {
+            //Skip caching if the catalogue changed while this page was being loaded
+            if (loadGeneration == generation) {
+                entries.put(key, new CachedPage(page, System.nanoTime() + ttlNanos));
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return page;
+    }
+
+    /**
+     * Drops every cached page
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            if (!entries.isEmpty()) {
+                entries.clear();
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the cache once the transaction that changed a Home has committed
+     * Falls back to immediate invalidation when the change happened outside a transaction
+     *
+     * @param event The change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeChanged(HomeChangedEvent event) {
+        logger.debug("Invalidating home card cache after change to home {}", event.getHomeId());
+        invalidateAll();
+    }
+
+    /**
+     * Takes a snapshot of the cache counters
+     *
+     * @return the current hit, miss, eviction and invalidation counts
+     */
+    public CacheStatsDTO getStats() {
+        lock.lock();
+        try {
+            return new CacheStatsDTO("homeCards", hits.sum(), misses.sum(), evictions.sum(),
+                    invalidations.sum(), entries.size(), maxEntries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits its bound
+     * Must be called while holding the cache lock
+     */
+    private void evictOverflow() {
+        Iterator<ListingKey> eldest = entries.keySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /////////////////////Cache Entries/////////////////////
+    private record ListingKey(String filter, HomeSortKey sortKey, int page, int size) {
+        static ListingKey of(String filter, HomeSortKey sortKey, Pageable pageable) {
+            return pageable.isPaged()
+                    ? new ListingKey(filter, sortKey, pageable.getPageNumber(), pageable.getPageSize())
+                    : new ListingKey(filter, sortKey, -1, -1);
+        }
+    }
+
+    private record CachedPage(Page<HomeCardDTO> page, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
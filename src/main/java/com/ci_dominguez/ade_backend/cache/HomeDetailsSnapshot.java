@@ -0,0 +1,35 @@
+package com.ci_dominguez.ade_backend.cache;
+
+/**
+ * Pre-rendered JSON body of a home details response together with its entity tag
+ */
+public class HomeDetailsSnapshot {
+    /////////////////////Exposed Variables/////////////////////
+    private final byte[] json;
+
+    private final String etag;
+
+    /////////////////////Constructors/////////////////////
+    public HomeDetailsSnapshot(byte[] json, String etag) {
+        this.json = json;
+        this.etag = etag;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public String toString() {
+        return "HomeDetailsSnapshot{" +
+                "bytes=" + json.length +
+                ", etag='" + etag + '\'' +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
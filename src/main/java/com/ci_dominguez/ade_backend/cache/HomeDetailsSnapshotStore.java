@@ -0,0 +1,110 @@
+package com.ci_dominguez.ade_backend.cache;
+
+import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.event.HomeChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds the serialized JSON of each home's details response
+ * A snapshot is rendered by Jackson once after the home changes and then served as raw bytes,
+ * with a content hash used as the strong ETag
+ */
+@Component
+public class HomeDetailsSnapshotStore {
+    private static final Logger logger = LoggerFactory.getLogger(HomeDetailsSnapshotStore.class);
+
+    //Number of digest bytes kept in the ETag, plenty to tell versions of one home apart
+    private static final int ETAG_BYTES = 16;
+
+    /////////////////////Instance Variables/////////////////////
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, HomeDetailsSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    //Bumped on every invalidation so renders that started before it are discarded
+    private final AtomicLong generation = new AtomicLong();
+
+    public HomeDetailsSnapshotStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Returns the snapshot of a home, rendering and storing it if there is none yet
+     *
+     * @param homeId The ID of the home
+     * @param loader Supplies the current HomeDetailsDTO on a miss
+     * @return The stored or freshly rendered snapshot
+     */
+    public HomeDetailsSnapshot getOrRender(Long homeId, Supplier<HomeDetailsDTO> loader) {
+        HomeDetailsSnapshot snapshot = snapshots.get(homeId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long renderGeneration = generation.get();
+        snapshot = render(loader.get());
+        snapshots.put(homeId, snapshot);
+        //Publishing before re-checking means a concurrent invalidation either sees and removes it, or is seen here
+        if (generation.get() != renderGeneration) {
+            snapshots.remove(homeId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the snapshot of one home, or of every home when the id is unknown
+     *
+     * @param homeId The ID of the home that changed, may be null
+     */
+    public void invalidate(Long homeId) {
+        generation.incrementAndGet();
+        if (homeId == null) {
+            snapshots.clear();
+        } else {
+            snapshots.remove(homeId);
+        }
+    }
+
+    /**
+     * Drops the changed home's snapshot once the transaction that changed it has committed
+     *
+     * @param event The change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeChanged(HomeChangedEvent event) {
+        logger.debug("Dropping details snapshot of home {}", event.getHomeId());
+        invalidate(event.getHomeId());
+    }
+
+    /**
+     * Serializes the DTO and derives its ETag from a SHA-256 hash of the bytes
+     */
+    private HomeDetailsSnapshot render(HomeDetailsDTO homeDetails) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(homeDetails);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+            return new HomeDetailsSnapshot(json, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to render home details snapshot", e);
+        }
+    }
+
+    /////////////////////Getters/////////////////////
+    public int getSize() {
+        return snapshots.size();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ci_dominguez.ade_backend.cache;
+
+import com.ci_dominguez.ade_backend.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads the per-region counters Hibernate keeps for the second-level and query caches configured in ehcache.xml
+ * Requires hibernate.generate_statistics, without it every counter stays 0
+ */
+@Component
+public class SecondLevelCacheStats {
+
+    /////////////////////Instance Variables/////////////////////
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Takes a snapshot of the hit, miss and put counters of every entity and query region
+     *
+     * @return One entry per region, ordered by region name
+     */
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Set<String> regionNames = new TreeSet<>(sessionFactory.getCache().getCacheRegionNames());
+        List<CacheRegionStatsDTO> regions = new ArrayList<>(regionNames.size());
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.add(new CacheRegionStatsDTO(regionName, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount()));
+            }
+        }
+        return regions;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ci_dominguez.ade_backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the @Scheduled flushes, rebuilds and refreshes
+ * Switched off with ade.scheduling.enabled=false so tests can drive those jobs themselves
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "ade.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,90 @@
+package com.ci_dominguez.ade_backend.controller;
+
+import com.ci_dominguez.ade_backend.dto.InboxPageDTO;
+import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.enums.MessageStatus;
+import com.ci_dominguez.ade_backend.service.ContactMessageService;
+import jakarta.validation.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/private/contact-messages")
+public class PrivateContactMessageController {
+    private static final Logger logger = LoggerFactory.getLogger(PrivateContactMessageController.class);
+
+    private final ContactMessageService contactMessageService;
+
+    public PrivateContactMessageController(ContactMessageService contactMessageService) {
+        this.contactMessageService = contactMessageService;
+    }
+
+    ///////////////////// Endpoints /////////////////////
+    /**
+     * Retrieves one page of contact messages, optionally restricted to a status
+     *
+     * @param status Optional MessageStatus to filter by
+     * @param sortBy Optional field to sort by: createdAt (default), updatedAt, name, status or id
+     * @param order Optional sort order, asc or desc (default)
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A ResponseEntity containing a Page of ContactMessage objects
+     */
+    @GetMapping
+    public ResponseEntity<Page<ContactMessage>> getContactMessages(
+            @RequestParam(required = false) MessageStatus status,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(contactMessageService.getContactMessagesPage(status, sortBy, order, page, size));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving contact messages", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Retrieves a slice of the inbox for one status, newest first, using keyset pagination
+     *
+     * @param status The MessageStatus to list
+     * @param cursor Optional continuation token returned with the previous slice
+     * @param size The maximum number of messages to return, at most 100
+     * @return A ResponseEntity containing the messages and the cursor for the next slice
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<InboxPageDTO<ContactMessage>> getInbox(
+            @RequestParam MessageStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(contactMessageService.getInboxAfterCursor(status, cursor, size));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving contact message inbox", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Retrieves the number of contact messages per status for the dashboard badges
+     * Served from the in-memory status counters, so polling it does not query the database
+     *
+     * @return A ResponseEntity containing the count of every MessageStatus
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<MessageStatus, Long>> getCounts() {
+        return ResponseEntity.ok(contactMessageService.countContactMessagesPerStatus());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ci_dominguez.ade_backend.controller;
+
+import com.ci_dominguez.ade_backend.model.enums.ExportFormat;
+import com.ci_dominguez.ade_backend.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/private/export")
+public class PrivateExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrivateExportController.class);
+
+    private final ExportService exportService;
+
+    public PrivateExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    ///////////////////// Endpoints /////////////////////
+    /**
+     * Streams every contact message as NDJSON or CSV
+     *
+     * @param format Optional export format, ndjson (default) or csv
+     * @return A ResponseEntity whose body writes the messages as they are read from the database
+     */
+    @GetMapping("/contact-messages")
+    public ResponseEntity<StreamingResponseBody> exportContactMessages(@RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Exporting contact messages as {}", exportFormat);
+        return streaming("contact-messages", exportFormat, out -> exportService.exportContactMessages(exportFormat, out));
+    }
+
+    /**
+     * Streams every visit request as NDJSON or CSV
+     *
+     * @param format Optional export format, ndjson (default) or csv
+     * @return A ResponseEntity whose body writes the visits as they are read from the database
+     */
+    @GetMapping("/visits")
+    public ResponseEntity<StreamingResponseBody> exportVisits(@RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Exporting visits as {}", exportFormat);
+        return streaming("visits", exportFormat, out -> exportService.exportVisits(exportFormat, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streaming(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getParam())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
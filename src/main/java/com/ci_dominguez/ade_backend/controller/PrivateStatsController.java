@@ -0,0 +1,93 @@
+package com.ci_dominguez.ade_backend.controller;
+
+import com.ci_dominguez.ade_backend.cache.HomeCardCache;
+import com.ci_dominguez.ade_backend.cache.SecondLevelCacheStats;
+import com.ci_dominguez.ade_backend.datasource.QueryStatistics;
+import com.ci_dominguez.ade_backend.dto.CacheRegionStatsDTO;
+import com.ci_dominguez.ade_backend.dto.CacheStatsDTO;
+import com.ci_dominguez.ade_backend.dto.DroppedSubmissionDTO;
+import com.ci_dominguez.ade_backend.dto.QueryStatsDTO;
+import com.ci_dominguez.ade_backend.ingestion.WriteBehindQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/private/stats")
+public class PrivateStatsController {
+
+    private final HomeCardCache homeCardCache;
+
+    private final QueryStatistics queryStatistics;
+
+    private final SecondLevelCacheStats secondLevelCacheStats;
+
+    private final List<WriteBehindQueue<?>> writeBehindQueues;
+
+    private final int defaultTopStatements;
+
+    public PrivateStatsController(HomeCardCache homeCardCache, QueryStatistics queryStatistics,
+                                  SecondLevelCacheStats secondLevelCacheStats,
+                                  List<WriteBehindQueue<?>> writeBehindQueues,
+                                  @Value("${ade.sql.stats.top-n:20}") int defaultTopStatements) {
+        this.homeCardCache = homeCardCache;
+        this.queryStatistics = queryStatistics;
+        this.secondLevelCacheStats = secondLevelCacheStats;
+        this.writeBehindQueues = writeBehindQueues;
+        this.defaultTopStatements = defaultTopStatements;
+    }
+
+    ///////////////////// Endpoints /////////////////////
+    /**
+     * Retrieves the hit, miss and eviction counters of the home listing cache
+     *
+     * @return A ResponseEntity containing the current CacheStatsDTO
+     */
+    @GetMapping("/home-card-cache")
+    public ResponseEntity<CacheStatsDTO> getHomeCardCacheStats() {
+        return ResponseEntity.ok(homeCardCache.getStats());
+    }
+
+    /**
+     * Retrieves the hit, miss and put counters of each Hibernate second-level and query cache region
+     *
+     * @return A ResponseEntity containing one CacheRegionStatsDTO per region
+     */
+    @GetMapping("/second-level-cache")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheStats.getRegionStats());
+    }
+
+    /**
+     * Retrieves the most expensive SQL statements of the last one to two statistics windows
+     *
+     * @param limit Optional maximum number of statements, defaults to ade.sql.stats.top-n
+     * @return A ResponseEntity containing the statements ordered by total execution time
+     */
+    @GetMapping("/queries")
+    public ResponseEntity<List<QueryStatsDTO>> getTopQueries(@RequestParam(required = false) Integer limit) {
+        int topN = limit != null && limit > 0 ? limit : defaultTopStatements;
+        return ResponseEntity.ok(queryStatistics.getTopStatements(topN));
+    }
+
+    /**
+     * Retrieves the accepted submissions that the write-behind queues could not persist
+     * Submitters only received a tracking id, so this is where a lost submission can be traced
+     *
+     * @return A ResponseEntity containing the most recently dropped submissions of every queue
+     */
+    @GetMapping("/ingestion/dropped")
+    public ResponseEntity<List<DroppedSubmissionDTO>> getDroppedSubmissions() {
+        List<DroppedSubmissionDTO> dropped = new ArrayList<>();
+        for (WriteBehindQueue<?> queue : writeBehindQueues) {
+            dropped.addAll(queue.getDropped());
+        }
+        return ResponseEntity.ok(dropped);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ci_dominguez.ade_backend.controller;
+
+import com.ci_dominguez.ade_backend.dto.InboxPageDTO;
+import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.model.Visits;
+import com.ci_dominguez.ade_backend.model.enums.VisitStatus;
+import com.ci_dominguez.ade_backend.service.VisitsService;
+import jakarta.validation.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/private/visit-requests")
+public class PrivateVisitsController {
+    private static final Logger logger = LoggerFactory.getLogger(PrivateVisitsController.class);
+
+    private final VisitsService visitsService;
+
+    public PrivateVisitsController(VisitsService visitsService) {
+        this.visitsService = visitsService;
+    }
+
+    ///////////////////// Endpoints /////////////////////
+    /**
+     * Retrieves one page of visits, optionally restricted to a status
+     *
+     * @param status Optional VisitStatus to filter by
+     * @param sortBy Optional field to sort by: createdAt (default), requestedDate, scheduledDate, status or id
+     * @param order Optional sort order, asc or desc (default)
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A ResponseEntity containing a Page of Visits objects
+     */
+    @GetMapping
+    public ResponseEntity<Page<Visits>> getVisits(
+            @RequestParam(required = false) VisitStatus status,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(visitsService.getVisitsPage(status, sortBy, order, page, size));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving visits", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Retrieves a slice of the inbox for one status, newest first, using keyset pagination
+     *
+     * @param status The VisitStatus to list
+     * @param cursor Optional continuation token returned with the previous slice
+     * @param size The maximum number of visits to return, at most 100
+     * @return A ResponseEntity containing the visits and the cursor for the next slice
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<InboxPageDTO<Visits>> getInbox(
+            @RequestParam VisitStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(visitsService.getInboxAfterCursor(status, cursor, size));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving visit inbox", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Retrieves the number of visits per status for the dashboard badges
+     * Served from the in-memory status counters, so polling it does not query the database
+     *
+     * @return A ResponseEntity containing the count of every VisitStatus
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<VisitStatus, Long>> getCounts() {
+        return ResponseEntity.ok(visitsService.countVisitsPerStatus());
+    }
+}
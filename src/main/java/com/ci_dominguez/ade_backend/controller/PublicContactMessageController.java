@@ -1,17 +1,23 @@
 package com.ci_dominguez.ade_backend.controller;
 
-import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.dao.DataAccessException;
-import jakarta.validation.ConstraintViolationException;
 
+import com.ci_dominguez.ade_backend.dto.SubmissionReceiptDTO;
+import com.ci_dominguez.ade_backend.exception.QueueFullException;
+import com.ci_dominguez.ade_backend.exception.SubmissionValidationException;
 import com.ci_dominguez.ade_backend.model.ContactMessage;
 import com.ci_dominguez.ade_backend.service.ContactMessageService;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/public/contact-messages")
 public class PublicContactMessageController {
@@ -19,18 +25,45 @@ public class PublicContactMessageController {
     private static final Logger logger = LoggerFactory.getLogger(PublicContactMessageController.class);
     private final ContactMessageService contactMessageService;
 
-    public PublicContactMessageController(ContactMessageService contactMessageService) {
+    private final boolean asyncIngestion;
+
+    private final long retryAfterSeconds;
+
+    public PublicContactMessageController(ContactMessageService contactMessageService,
+                                          @Value("${ade.ingestion.contact-messages.async:false}") boolean asyncIngestion,
+                                          @Value("${ade.ingestion.retry-after-seconds:5}") long retryAfterSeconds) {
         this.contactMessageService = contactMessageService;
+        this.asyncIngestion = asyncIngestion;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 
+    /**
+     * Accepts a contact message submission
+     * With ade.ingestion.contact-messages.async enabled the message is validated, queued and answered
+     * with 202 Accepted and a tracking id; otherwise it is saved before responding
+     *
+     * @param contactMessage The submitted ContactMessage
+     * @return A ResponseEntity containing the saved message or a SubmissionReceiptDTO
+     */
     @PostMapping
-    public ResponseEntity<?> submitContactMessage(@Valid @RequestBody ContactMessage contactMessage) {
+    public ResponseEntity<?> submitContactMessage(@RequestBody ContactMessage contactMessage) {
         try {
             logger.info("Received contact message submission");
+            if (asyncIngestion) {
+                UUID trackingId = contactMessageService.submitContactMessage(contactMessage);
+                return ResponseEntity.accepted().body(new SubmissionReceiptDTO(trackingId));
+            }
             ContactMessage savedMessage = contactMessageService.saveContactMessage(contactMessage);
             logger.info("Contact message saved successfully with ID: {}", savedMessage.getId());
             return ResponseEntity.ok(savedMessage);
-        } catch (ConstraintViolationException e) {
+        } catch (QueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body("Too many submissions, please try again shortly");
+        } catch (SubmissionValidationException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getFieldErrors());
+        } catch (ValidationException e) {
             logger.error("Validation error: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Invalid input: " + e.getMessage());
         } catch (DataAccessException e) {
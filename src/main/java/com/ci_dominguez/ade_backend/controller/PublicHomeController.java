@@ -1,17 +1,29 @@
 package com.ci_dominguez.ade_backend.controller;
 
+import com.ci_dominguez.ade_backend.cache.HomeDetailsSnapshot;
+import com.ci_dominguez.ade_backend.counter.HomeViewCounter;
+import com.ci_dominguez.ade_backend.counter.PopularHomes;
 import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
-import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.dto.HomeCursorPageDTO;
 import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.repository.HomeSearchCriteria;
 import com.ci_dominguez.ade_backend.service.HomeService;
+import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/api/public/homes")
@@ -21,8 +33,18 @@ public class PublicHomeController {
 
     private final HomeService homeService;
 
-    public PublicHomeController(HomeService homeService){
+    private final HomeViewCounter homeViewCounter;
+
+    private final PopularHomes popularHomes;
+
+    private final CacheControl homeDetailsCacheControl;
+
+    public PublicHomeController(HomeService homeService, HomeViewCounter homeViewCounter, PopularHomes popularHomes,
+                                @Value("${ade.http.home-details.max-age-seconds:60}") long homeDetailsMaxAge){
         this.homeService = homeService;
+        this.homeViewCounter = homeViewCounter;
+        this.popularHomes = popularHomes;
+        this.homeDetailsCacheControl = CacheControl.maxAge(Duration.ofSeconds(homeDetailsMaxAge)).cachePublic();
     }
 
     ///////////////////// Endpoints /////////////////////
@@ -48,21 +70,166 @@ public class PublicHomeController {
         }
     }
 
+    /**
+     * Retrieves a slice of homes using keyset pagination
+     * Unlike the offset-based listing, latency does not grow with how deep the client scrolls
+     *
+     * @param filter Optional string to filter homes by address
+     * @param sortBy Optional string to specify the sorting field for the first slice
+     * @param cursor Optional continuation token returned with the previous slice
+     * @param size The maximum number of homes to return
+     * @return A ResponseEntity containing the homes and the cursor for the next slice
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<HomeCursorPageDTO> getHomesAfterCursor(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            HomeCursorPageDTO homes = homeService.getHomesAfterCursor(filter, sortBy, cursor, size);
+            return ResponseEntity.ok(homes);
+        } catch (ValidationException e) {
+            logger.error("Invalid cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving homes after cursor", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Searches homes by any combination of the given conditions, one bounded page at a time
+     * Conditions that are left out do not restrict the results
+     *
+     * @param address Optional text the address must contain, ignoring case
+     * @param minCost Optional minimum cost
+     * @param maxCost Optional maximum cost
+     * @param minBedrooms Optional minimum number of bedrooms
+     * @param minBathrooms Optional minimum number of bathrooms
+     * @param homeType Optional home type, ignoring case
+     * @param minYearBuilt Optional earliest year built
+     * @param maxYearBuilt Optional latest year built
+     * @param sortBy Optional sort field: id, cost, bedrooms, bathrooms or relevance (default when an address is given)
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A ResponseEntity containing a Page of HomeCardDTO objects matching every given condition
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<HomeCardDTO>> searchHomes(
+            @RequestParam(required = false) String address,
+            @RequestParam(required = false) BigDecimal minCost,
+            @RequestParam(required = false) BigDecimal maxCost,
+            @RequestParam(required = false) BigDecimal minBedrooms,
+            @RequestParam(required = false) BigDecimal minBathrooms,
+            @RequestParam(required = false) String homeType,
+            @RequestParam(required = false) Integer minYearBuilt,
+            @RequestParam(required = false) Integer maxYearBuilt,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        HomeSearchCriteria criteria = new HomeSearchCriteria(blankToNull(address), minCost, maxCost, minBedrooms,
+                minBathrooms, blankToNull(homeType), minYearBuilt, maxYearBuilt);
+        try {
+            return ResponseEntity.ok(homeService.searchHomes(criteria, sortBy, page, size));
+        } catch (ValidationException e) {
+            logger.error("Invalid home search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error searching homes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Suggests homes whose address matches the text typed so far
+     * Answered from the in-memory home index, so it can be called on every keystroke
+     *
+     * @param q The address text typed so far
+     * @param limit The maximum number of homes to return
+     * @return A ResponseEntity containing the HomeCardDTO objects of the matching homes, in address order
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<HomeCardDTO>> autocompleteAddress(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(homeService.autocompleteAddress(q, limit));
+        } catch (ValidationException e) {
+            logger.error("Invalid autocomplete request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error autocompleting home addresses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Retrieves the most viewed homes of the recent past, most popular first
+     * Answered from the in-memory ranking, which trails new views by at most one refresh interval
+     *
+     * @param limit The maximum number of homes to return
+     * @return A ResponseEntity containing the HomeCardDTO objects of the most popular homes
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<HomeCardDTO>> getPopularHomes(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(popularHomes.getPopularHomes(limit));
+        } catch (ValidationException e) {
+            logger.error("Invalid popular homes request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Retrieves detailed information about a specific home
+     * Serves the pre-rendered HomeDetailsDTO JSON with an ETag, so a matching If-None-Match
+     * request is answered with 304 Not Modified and no body
+     * Every request for an existing home, including revalidations, is counted as a view
      *
      * @param id The ID of the home to retrieve
-     * @return A ResponseEntity containing the HomeDetailsDTO of the specified home
+     * @return A ResponseEntity containing the serialized HomeDetailsDTO of the specified home
      */
-    @GetMapping("/{id}")
-    public ResponseEntity<HomeDetailsDTO> getHomeDetails(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getHomeDetails(@PathVariable Long id) {
         try {
-            HomeDetailsDTO homeDetails = homeService.getHomeDetailsById(id);
-            return ResponseEntity.ok(homeDetails);
+            HomeDetailsSnapshot homeDetails = homeService.getHomeDetailsSnapshot(id);
+            homeViewCounter.recordView(id);
+            popularHomes.recordView(id);
+            return ResponseEntity.ok()
+                    .eTag(homeDetails.getEtag())
+                    .cacheControl(homeDetailsCacheControl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(homeDetails.getJson());
         } catch (DatabaseException e) {
             logger.error("Error retrieving home details", e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
 
+    /**
+     * Retrieves the homes most similar to a specific home, most similar first
+     * Answered from the precomputed similar homes index, which follows home changes within seconds
+     *
+     * @param id The ID of the home
+     * @param limit Optional maximum number of homes to return, defaults to ade.index.similar-homes.neighbours
+     * @return A ResponseEntity containing the HomeCardDTO objects of the most similar homes
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<HomeCardDTO>> getSimilarHomes(@PathVariable Long id,
+                                                             @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(homeService.findSimilarHomes(id, limit));
+        } catch (ValidationException e) {
+            logger.error("Invalid similar homes request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DatabaseException e) {
+            logger.error("Error retrieving similar homes", e);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 }
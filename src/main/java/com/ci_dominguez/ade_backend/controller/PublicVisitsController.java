@@ -1,16 +1,22 @@
 package com.ci_dominguez.ade_backend.controller;
 
+import com.ci_dominguez.ade_backend.dto.SubmissionReceiptDTO;
+import com.ci_dominguez.ade_backend.exception.QueueFullException;
+import com.ci_dominguez.ade_backend.exception.SubmissionValidationException;
 import com.ci_dominguez.ade_backend.model.Visits;
 import com.ci_dominguez.ade_backend.service.VisitsService;
-import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/public/visit-requests")
 public class PublicVisitsController {
@@ -18,18 +24,45 @@ public class PublicVisitsController {
 
     private final VisitsService visitsService;
 
-    public PublicVisitsController(VisitsService visitsService){
+    private final boolean asyncIngestion;
+
+    private final long retryAfterSeconds;
+
+    public PublicVisitsController(VisitsService visitsService,
+                                  @Value("${ade.ingestion.visits.async:false}") boolean asyncIngestion,
+                                  @Value("${ade.ingestion.retry-after-seconds:5}") long retryAfterSeconds){
         this.visitsService = visitsService;
+        this.asyncIngestion = asyncIngestion;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 
+    /**
+     * Accepts a visit request submission
+     * With ade.ingestion.visits.async enabled the request is validated, queued and answered
+     * with 202 Accepted and a tracking id; a full queue is answered with 503 and Retry-After
+     *
+     * @param visitReq The submitted Visits request
+     * @return A ResponseEntity containing the saved request or a SubmissionReceiptDTO
+     */
     @PostMapping
-    public ResponseEntity<?> submitVisitRequest(@Valid @RequestBody Visits visitReq){
+    public ResponseEntity<?> submitVisitRequest(@RequestBody Visits visitReq){
         try{
             logger.info("Received visit request submission");
+            if (asyncIngestion) {
+                UUID trackingId = visitsService.submitVisit(visitReq);
+                return ResponseEntity.accepted().body(new SubmissionReceiptDTO(trackingId));
+            }
             Visits savedReq = visitsService.saveVisit(visitReq);
             logger.info("Visit request saved successfully with ID: {}", savedReq.getId());
             return ResponseEntity.ok(savedReq);
-        } catch (ConstraintViolationException e){
+        } catch (QueueFullException e){
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body("Too many submissions, please try again shortly");
+        } catch (SubmissionValidationException e){
+            logger.error("Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getFieldErrors());
+        } catch (ValidationException e){
             logger.error("Validation error: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Invalid input: "+ e.getMessage());
         } catch (DataAccessException e){
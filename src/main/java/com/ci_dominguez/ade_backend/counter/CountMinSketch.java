@@ -0,0 +1,76 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Count-Min sketch of long keys
+ * Each key increments one counter per row; its estimate is the smallest of those counters, which never
+ * undercounts and overcounts by at most about e/width of the total with probability 1 - e^-depth.
+ * Counters are atomic, so any number of threads can add while another estimates.
+ */
+final class CountMinSketch {
+
+    /////////////////////Instance Variables/////////////////////
+    private final int depth;
+
+    private final int widthMask;
+
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth The number of rows, i.e. independent hash functions
+     * @param width The number of counters per row, rounded up to a power of two
+     */
+    CountMinSketch(int depth, int width) {
+        int roundedWidth = width <= 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.counters = new AtomicLongArray(depth * roundedWidth);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Counts one occurrence of a key
+     *
+     * @param key The key to count
+     */
+    void add(long key) {
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(index(row, key));
+        }
+    }
+
+    /**
+     * Estimates how often a key has been counted
+     *
+     * @param key The key to look up
+     * @return The estimate, never lower than the true count
+     */
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, key)));
+        }
+        return min;
+    }
+
+    /**
+     * Resets every counter to zero
+     */
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    /**
+     * Picks the counter of a key in one row, hashing the key with a per-row seed through the SplitMix64 finalizer
+     */
+    private int index(int row, long key) {
+        long h = key + (row + 1) * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return row * (widthMask + 1) + ((int) h & widthMask);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.repository.HomeViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts home details views without touching the database on the request path
+ * Each view increments a striped LongAdder keyed by home id; a periodic flush drains every adder and adds the
+ * deltas to the home_view_counts table with one upsert, so concurrent viewers never wait on a row lock.
+ * Deltas of a failed flush are put back and retried; views still pending when the process dies are lost.
+ */
+@Component
+public class HomeViewCounter {
+    private static final Logger logger = LoggerFactory.getLogger(HomeViewCounter.class);
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeViewCountRepository homeViewCountRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    //One adder per home ever viewed, bounded by the catalogue size; adders are reset, never removed
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    //The scheduled flush and the flush on shutdown must not drain concurrently
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder flushedViews = new LongAdder();
+
+    public HomeViewCounter(HomeViewCountRepository homeViewCountRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.homeViewCountRepository = homeViewCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Records one view of a home's details page
+     * Lock-free once the home has been viewed before: a map lookup and a LongAdder increment
+     *
+     * @param homeId The id of the viewed home
+     */
+    public void recordView(Long homeId) {
+        LongAdder views = pending.get(homeId);
+        if (views == null) {
+            views = pending.computeIfAbsent(homeId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * Adds the views recorded since the previous flush to the home_view_counts table
+     */
+    @Scheduled(fixedDelayString = "${ade.home-views.flush-interval-ms:5000}",
+            initialDelayString = "${ade.home-views.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Long> homeIds = new ArrayList<>();
+            List<Long> deltas = new ArrayList<>();
+            for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                //Each cell is read and zeroed atomically, so increments racing with the drain are never lost
+                long views = entry.getValue().sumThenReset();
+                if (views != 0) {
+                    homeIds.add(entry.getKey());
+                    deltas.add(views);
+                }
+            }
+            if (homeIds.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> homeViewCountRepository.addViews(
+                        homeIds.toArray(Long[]::new), deltas.toArray(Long[]::new)));
+                deltas.forEach(flushedViews::add);
+                logger.debug("Flushed views of {} homes", homeIds.size());
+            } catch (DataAccessException | TransactionException e) {
+                logger.warn("Failed to flush views of {} homes, retrying with the next flush: {}", homeIds.size(), e.getMessage());
+                for (int i = 0; i < homeIds.size(); i++) {
+                    pending.get(homeIds.get(i)).add(deltas.get(i));
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes out the remaining views before the application context closes
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /////////////////////Getters/////////////////////
+    /**
+     * Returns the number of views recorded but not yet written to the database
+     *
+     * @return The pending view count across all homes
+     */
+    public long getPendingViews() {
+        long views = 0;
+        for (LongAdder adder : pending.values()) {
+            views += adder.sum();
+        }
+        return views;
+    }
+
+    /**
+     * Returns the number of views written to the database since startup
+     *
+     * @return The flushed view count
+     */
+    public long getFlushedViews() {
+        return flushedViews.sum();
+    }
+}
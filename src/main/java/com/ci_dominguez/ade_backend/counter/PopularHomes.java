@@ -0,0 +1,232 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.index.HomeCatalogIndex;
+import jakarta.validation.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ranks the most viewed homes of the recent past in fixed memory
+ * Views are counted in a ring of Count-Min sketches, one per time window; a home's score is its estimated views
+ * per window weighted by decay^age, so the ranking leans towards recent interest and forgets the oldest window
+ * when the ring rotates. A periodic refresh rescores the tracked candidates plus every home viewed since the
+ * previous refresh, keeps the best of them in a bounded heap and publishes the top cards as an immutable list,
+ * so reading the ranking never touches the sketches or the database.
+ */
+@Component
+public class PopularHomes {
+    private static final Logger logger = LoggerFactory.getLogger(PopularHomes.class);
+
+    //Candidates kept per published slot, so homes just below the cut are still rescored when the window expires
+    private static final int CANDIDATES_PER_SLOT = 4;
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeCatalogIndex homeCatalogIndex;
+
+    private final int topK;
+
+    private final long windowMillis;
+
+    private final CountMinSketch[] windows;
+
+    //weights[age] is decay^age, age 0 being the current window
+    private final double[] weights;
+
+    //Index of the sketch receiving views, moved forward only by the refresh
+    private volatile int current;
+
+    private long currentWindowNumber;
+
+    //Homes viewed since the previous refresh, bounded by the catalogue size
+    private final Set<Long> viewedSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    private long[] candidates = new long[0];
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile List<HomeCardDTO> popular = List.of();
+
+    public PopularHomes(HomeCatalogIndex homeCatalogIndex,
+                        @Value("${ade.popular-homes.top-k:50}") int topK,
+                        @Value("${ade.popular-homes.windows:7}") int windowCount,
+                        @Value("${ade.popular-homes.window-minutes:1440}") long windowMinutes,
+                        @Value("${ade.popular-homes.decay:0.8}") double decay,
+                        @Value("${ade.popular-homes.sketch-depth:4}") int sketchDepth,
+                        @Value("${ade.popular-homes.sketch-width:2048}") int sketchWidth) {
+        this.homeCatalogIndex = homeCatalogIndex;
+        this.topK = topK;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+        this.windows = new CountMinSketch[windowCount];
+        this.weights = new double[windowCount];
+        for (int age = 0; age < windowCount; age++) {
+            windows[age] = new CountMinSketch(sketchDepth, sketchWidth);
+            weights[age] = Math.pow(decay, age);
+        }
+        this.currentWindowNumber = System.currentTimeMillis() / windowMillis;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Records one view of a home's details page
+     * Lock-free: a few atomic increments in the current sketch and, once per refresh, a set insertion
+     *
+     * @param homeId The id of the viewed home
+     */
+    public void recordView(Long homeId) {
+        windows[current].add(homeId);
+        if (!viewedSinceRefresh.contains(homeId)) {
+            viewedSinceRefresh.add(homeId);
+        }
+    }
+
+    /**
+     * Returns the most viewed homes, most popular first
+     * Read from the list published by the last refresh, no query is run
+     *
+     * @param limit The maximum number of homes to return
+     * @return The cards of the most viewed homes
+     * @throws ValidationException if the limit is not between 1 and the configured top-k
+     */
+    public List<HomeCardDTO> getPopularHomes(int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new ValidationException("Limit must be between 1 and " + topK);
+        }
+        List<HomeCardDTO> homes = popular;
+        return homes.size() <= limit ? homes : homes.subList(0, limit);
+    }
+
+    /**
+     * Rotates the windows when due and republishes the ranking from the sketches
+     */
+    @Scheduled(fixedDelayString = "${ade.popular-homes.refresh-interval-ms:1000}",
+            initialDelayString = "${ade.popular-homes.refresh-interval-ms:1000}")
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    /**
+     * Rotates the windows to the one containing the given time and republishes the ranking from the sketches
+     *
+     * @param nowMillis The current time in epoch milliseconds
+     */
+    void refresh(long nowMillis) {
+        refreshLock.lock();
+        try {
+            rotate(nowMillis / windowMillis);
+            //The previous candidates are rescored so their scores follow the decay even without new views
+            Set<Long> rescored = HashSet.newHashSet(candidates.length + viewedSinceRefresh.size());
+            for (long homeId : candidates) {
+                rescored.add(homeId);
+            }
+            for (Iterator<Long> viewed = viewedSinceRefresh.iterator(); viewed.hasNext(); ) {
+                rescored.add(viewed.next());
+                viewed.remove();
+            }
+            List<ScoredHome> ranking = topScores(rescored, topK * CANDIDATES_PER_SLOT);
+            candidates = ranking.stream().mapToLong(ScoredHome::homeId).toArray();
+            popular = resolveCards(ranking);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Estimates the decayed view score of a home
+     *
+     * @param homeId The id of the home
+     * @return The sum of the home's estimated views in every window, weighted by the window's age
+     */
+    double score(long homeId) {
+        int newest = current;
+        double score = 0;
+        for (int age = 0; age < windows.length; age++) {
+            score += weights[age] * windows[Math.floorMod(newest - age, windows.length)].estimate(homeId);
+        }
+        return score;
+    }
+
+    /////////////////////Helpers/////////////////////
+    /**
+     * Advances the ring to the given window, clearing each sketch before it starts receiving views
+     * Only the oldest sketch is ever cleared, and no view is written to it at that point
+     */
+    private void rotate(long windowNumber) {
+        long steps = Math.min(windowNumber - currentWindowNumber, windows.length);
+        for (long i = 0; i < steps; i++) {
+            int next = (current + 1) % windows.length;
+            windows[next].clear();
+            current = next;
+        }
+        if (steps > 0) {
+            logger.debug("Popular homes moved to window {}", windowNumber);
+            currentWindowNumber = windowNumber;
+        }
+    }
+
+    /**
+     * Keeps the highest scored homes in a min-heap of the given capacity
+     *
+     * @return The kept homes, best first
+     */
+    private List<ScoredHome> topScores(Set<Long> homeIds, int capacity) {
+        PriorityQueue<ScoredHome> heap = new PriorityQueue<>(capacity + 1, ScoredHome.ORDER);
+        for (Long homeId : homeIds) {
+            double score = score(homeId);
+            if (score <= 0) {
+                continue;
+            }
+            ScoredHome scored = new ScoredHome(homeId, score);
+            if (heap.size() < capacity) {
+                heap.add(scored);
+            } else if (ScoredHome.ORDER.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+        List<ScoredHome> ranking = new ArrayList<>(heap);
+        ranking.sort(ScoredHome.ORDER.reversed());
+        return ranking;
+    }
+
+    /**
+     * Looks up the cards of the best ranked homes in the home index, skipping homes that no longer exist
+     * Keeps the previous list if the index cannot be read
+     */
+    private List<HomeCardDTO> resolveCards(List<ScoredHome> ranking) {
+        try {
+            List<HomeCardDTO> cards = new ArrayList<>(topK);
+            for (int i = 0; i < ranking.size() && cards.size() < topK; i++) {
+                HomeCardDTO card = homeCatalogIndex.findCard(ranking.get(i).homeId());
+                if (card != null) {
+                    cards.add(card);
+                }
+            }
+            return List.copyOf(cards);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to resolve popular homes, keeping the previous ranking: {}", e.getMessage());
+            return popular;
+        }
+    }
+
+    private record ScoredHome(long homeId, double score) {
+        //Ties go to the lower id so the ranking is stable between refreshes
+        static final Comparator<ScoredHome> ORDER = Comparator.comparingDouble(ScoredHome::score)
+                .thenComparing(ScoredHome::homeId, Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.event.StatusChangedEvent;
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.Visits;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener attached to ContactMessage and Visits
+ * Remembers the status each row was loaded or written with and publishes a StatusChangedEvent on insert,
+ * delete and on updates that actually change the status; StatusCounts applies them once the transaction commits
+ */
+@Component
+public class StatusCountListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StatusCountListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /////////////////////Lifecycle Callbacks/////////////////////
+    /**
+     * Records the status a row had in the database when it was read
+     *
+     * @param entity The ContactMessage or Visits that was loaded
+     */
+    @PostLoad
+    public void onLoaded(Object entity) {
+        if (entity instanceof ContactMessage message) {
+            message.setPersistedStatus(message.getStatus());
+        } else if (entity instanceof Visits visit) {
+            visit.setPersistedStatus(visit.getStatus());
+        }
+    }
+
+    /**
+     * Invoked after a row has been inserted or updated, once the entity's own callbacks have set its status
+     *
+     * @param entity The ContactMessage or Visits that was written
+     */
+    @PostPersist
+    @PostUpdate
+    public void onWritten(Object entity) {
+        if (entity instanceof ContactMessage message) {
+            publishIfChanged(message.getPersistedStatus(), message.getStatus());
+            message.setPersistedStatus(message.getStatus());
+        } else if (entity instanceof Visits visit) {
+            publishIfChanged(visit.getPersistedStatus(), visit.getStatus());
+            visit.setPersistedStatus(visit.getStatus());
+        }
+    }
+
+    /**
+     * Invoked after a row has been deleted
+     *
+     * @param entity The ContactMessage or Visits that was removed
+     */
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof ContactMessage message) {
+            publishIfChanged(message.getPersistedStatus(), null);
+        } else if (entity instanceof Visits visit) {
+            publishIfChanged(visit.getPersistedStatus(), null);
+        }
+    }
+
+    private void publishIfChanged(Enum<?> previousStatus, Enum<?> newStatus) {
+        if (!Objects.equals(previousStatus, newStatus)) {
+            eventPublisher.publishEvent(new StatusChangedEvent(previousStatus, newStatus));
+        }
+    }
+}
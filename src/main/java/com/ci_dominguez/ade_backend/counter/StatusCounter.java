@@ -0,0 +1,141 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.model.StatusCount;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-status counts of one entity kind, indexed by enum ordinal
+ * A count is the total last read from the shared status_counts table plus the deltas this node has
+ * committed since but not yet added to that table, so reads never touch the database
+ *
+ * @param <E> The status enum
+ */
+class StatusCounter<E extends Enum<E>> {
+
+    /////////////////////Instance Variables/////////////////////
+    private final String kind;
+
+    private final Class<E> statusType;
+
+    private final E[] statuses;
+
+    //Totals as last read from the status_counts table, includes every node's flushed deltas
+    private final AtomicLongArray shared;
+
+    //Deltas committed on this node that have not been added to the status_counts table yet
+    private final LongAdder[] pending;
+
+    StatusCounter(String kind, Class<E> statusType) {
+        this.kind = kind;
+        this.statusType = statusType;
+        this.statuses = statusType.getEnumConstants();
+        this.shared = new AtomicLongArray(statuses.length);
+        this.pending = new LongAdder[statuses.length];
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = new LongAdder();
+        }
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Returns the current count of one status
+     *
+     * @param status The status to read
+     * @return The count, never negative
+     */
+    long get(E status) {
+        int i = status.ordinal();
+        return Math.max(0, shared.get(i) + pending[i].sum());
+    }
+
+    /**
+     * Returns the current count of every status
+     *
+     * @return An unmodifiable map holding an entry for each status, in declaration order
+     */
+    Map<E, Long> snapshot() {
+        EnumMap<E, Long> counts = new EnumMap<>(statusType);
+        for (E status : statuses) {
+            counts.put(status, get(status));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Records a committed change to one status
+     *
+     * @param status The status whose count changed
+     * @param delta The amount to add, may be negative
+     */
+    void add(E status, long delta) {
+        pending[status.ordinal()].add(delta);
+    }
+
+    /**
+     * Takes a snapshot of the deltas not yet added to the status_counts table
+     *
+     * @return The pending delta of each status, indexed by ordinal
+     */
+    long[] pendingDeltas() {
+        long[] deltas = new long[statuses.length];
+        for (int i = 0; i < deltas.length; i++) {
+            deltas[i] = pending[i].sum();
+        }
+        return deltas;
+    }
+
+    /**
+     * Takes over the totals read back from the status_counts table after the given deltas were written to it
+     * Deltas recorded since the snapshot was taken stay pending for the next flush
+     *
+     * @param flushed The deltas that were written, as returned by pendingDeltas()
+     * @param rows The rows of this kind read back in the same transaction
+     */
+    void applyFlushed(long[] flushed, List<StatusCount> rows) {
+        long[] totals = new long[statuses.length];
+        for (StatusCount row : rows) {
+            E status = statusOf(row.getStatus());
+            if (status != null) {
+                totals[status.ordinal()] = row.getTotal();
+            }
+        }
+        for (int i = 0; i < totals.length; i++) {
+            shared.set(i, totals[i]);
+            pending[i].add(-flushed[i]);
+        }
+    }
+
+    /**
+     * Resolves a status name stored in the status_counts table
+     *
+     * @param name The stored name
+     * @return The matching status, or null if the enum no longer declares it
+     */
+    E statusOf(String name) {
+        for (E status : statuses) {
+            if (status.name().equals(name)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /////////////////////Getters/////////////////////
+    String getKind() {
+        return kind;
+    }
+
+    Class<E> getStatusType() {
+        return statusType;
+    }
+
+    E[] getStatuses() {
+        return statuses;
+    }
+}
@@ -0,0 +1,221 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.event.StatusChangedEvent;
+import com.ci_dominguez.ade_backend.model.StatusCount;
+import com.ci_dominguez.ade_backend.model.enums.MessageStatus;
+import com.ci_dominguez.ade_backend.model.enums.VisitStatus;
+import com.ci_dominguez.ade_backend.repository.ContactMessageRepository;
+import com.ci_dominguez.ade_backend.repository.StatusCountRepository;
+import com.ci_dominguez.ade_backend.repository.VisitsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-status counts of contact messages and visits, maintained incrementally so badge counts are O(1) reads
+ * Committed inserts and status transitions are applied in memory right away and added to the shared
+ * status_counts table by a periodic flush, which also reads back the other nodes' changes.
+ * A slower reconciliation recounts both tables and overwrites status_counts to correct any drift, e.g. rows
+ * written outside JPA or deltas lost when a node stopped before flushing. Totals are therefore approximate: changes
+ * committed on any node while a reconciliation runs can be counted twice until the next reconciliation.
+ */
+@Component
+public class StatusCounts {
+    private static final Logger logger = LoggerFactory.getLogger(StatusCounts.class);
+
+    public static final String CONTACT_MESSAGES = "contactMessages";
+
+    public static final String VISITS = "visits";
+
+    /////////////////////Instance Variables/////////////////////
+    private final StatusCountRepository statusCountRepository;
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    private final VisitsRepository visitsRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final StatusCounter<MessageStatus> contactMessages = new StatusCounter<>(CONTACT_MESSAGES, MessageStatus.class);
+
+    private final StatusCounter<VisitStatus> visits = new StatusCounter<>(VISITS, VisitStatus.class);
+
+    //Flushes and reconciliations must not interleave, each one settles the pending deltas it snapshotted
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public StatusCounts(StatusCountRepository statusCountRepository,
+                        ContactMessageRepository contactMessageRepository,
+                        VisitsRepository visitsRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.statusCountRepository = statusCountRepository;
+        this.contactMessageRepository = contactMessageRepository;
+        this.visitsRepository = visitsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Returns the number of contact messages with the given status
+     *
+     * @param status The MessageStatus to count
+     * @return The current count
+     */
+    public long getContactMessageCount(MessageStatus status) {
+        return contactMessages.get(status);
+    }
+
+    /**
+     * Returns the number of contact messages per status
+     *
+     * @return A map holding an entry for every MessageStatus
+     */
+    public Map<MessageStatus, Long> getContactMessageCounts() {
+        return contactMessages.snapshot();
+    }
+
+    /**
+     * Returns the number of visits with the given status
+     *
+     * @param status The VisitStatus to count
+     * @return The current count
+     */
+    public long getVisitCount(VisitStatus status) {
+        return visits.get(status);
+    }
+
+    /**
+     * Returns the number of visits per status
+     *
+     * @return A map holding an entry for every VisitStatus
+     */
+    public Map<VisitStatus, Long> getVisitCounts() {
+        return visits.snapshot();
+    }
+
+    /**
+     * Applies a status change once the transaction that made it has committed, so rolled back writes are never counted
+     * Falls back to applying it immediately when the change happened outside a transaction
+     *
+     * @param event The change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(StatusChangedEvent event) {
+        add(event.getPreviousStatus(), -1);
+        add(event.getNewStatus(), 1);
+    }
+
+    /**
+     * Seeds the counters with a full recount once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Adds this node's pending deltas to the status_counts table and reads back the totals of every node
+     */
+    @Scheduled(fixedDelayString = "${ade.status-counts.flush-interval-ms:5000}",
+            initialDelayString = "${ade.status-counts.flush-interval-ms:5000}")
+    public void flush() {
+        syncLock.lock();
+        try {
+            flush(contactMessages);
+            flush(visits);
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Failed to flush status counts, keeping the deltas for the next attempt: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Recounts contact messages and visits per status and overwrites the status_counts table with the result
+     */
+    @Scheduled(fixedDelayString = "${ade.status-counts.reconcile-interval-ms:600000}",
+            initialDelayString = "${ade.status-counts.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        syncLock.lock();
+        try {
+            reconcile(contactMessages, contactMessageRepository::countGroupedByStatus);
+            reconcile(visits, visitsRepository::countGroupedByStatus);
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Failed to reconcile status counts: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void add(Enum<?> status, long delta) {
+        if (status instanceof MessageStatus messageStatus) {
+            contactMessages.add(messageStatus, delta);
+        } else if (status instanceof VisitStatus visitStatus) {
+            visits.add(visitStatus, delta);
+        }
+    }
+
+    private <E extends Enum<E>> void flush(StatusCounter<E> counter) {
+        long[] deltas = counter.pendingDeltas();
+        E[] statuses = counter.getStatuses();
+        List<StatusCount> rows = transactionTemplate.execute(tx -> {
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0) {
+                    statusCountRepository.addToTotal(counter.getKind(), statuses[i].name(), deltas[i]);
+                }
+            }
+            return statusCountRepository.findByKind(counter.getKind());
+        });
+        counter.applyFlushed(deltas, rows);
+    }
+
+    /**
+     * Replaces the stored totals of one kind with a recount
+     * Pending deltas are snapshotted first: their rows were committed before the recount started, so the recount
+     * already includes them and they are settled instead of being flushed a second time
+     * The result is approximate: a change committed between the snapshot and the recount query is counted by the
+     * query and its delta, recorded after the commit, is flushed as well. Taking the snapshot under a lock would not
+     * help since the commit itself is outside it. The extra count is corrected by the next reconciliation.
+     */
+    private <E extends Enum<E>> void reconcile(StatusCounter<E> counter, Supplier<List<Object[]>> recount) {
+        long[] deltas = counter.pendingDeltas();
+        List<StatusCount> rows = transactionTemplate.execute(tx -> {
+            Map<E, Long> counted = new EnumMap<>(counter.getStatusType());
+            for (Object[] row : recount.get()) {
+                if (row[0] != null) {
+                    counted.put(counter.getStatusType().cast(row[0]), (Long) row[1]);
+                }
+            }
+            Map<String, Long> stored = new HashMap<>();
+            for (StatusCount row : statusCountRepository.findByKind(counter.getKind())) {
+                stored.put(row.getStatus(), row.getTotal());
+            }
+            for (E status : counter.getStatuses()) {
+                long total = counted.getOrDefault(status, 0L);
+                Long previous = stored.get(status.name());
+                if (previous == null || previous != total) {
+                    if (previous != null) {
+                        logger.info("Corrected {} {} count from {} to {}", counter.getKind(), status, previous, total);
+                    }
+                    statusCountRepository.setTotal(counter.getKind(), status.name(), total);
+                }
+            }
+            return statusCountRepository.findByKind(counter.getKind());
+        });
+        counter.applyFlushed(deltas, rows);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource that only hands out as many connections at once as it has permits
+ * With virtual threads every request gets its own thread, so without a gate thousands of them
+ * would pile into the connection pool's handoff queue at once; here they park cheaply on a fair
+ * semaphore instead and are let through in arrival order as connections are closed
+ *
+ * The permit is tied to the connection rather than to a repository call, so a transaction that
+ * already holds a connection never waits on the gate again
+ */
+public class GatedDataSource extends DelegatingDataSource {
+
+    /////////////////////Instance Variables/////////////////////
+    private final Semaphore permits;
+
+    private final int maxPermits;
+
+    private final long acquireTimeoutMillis;
+
+    private final LongAdder timeouts = new LongAdder();
+
+    public GatedDataSource(DataSource target, int maxPermits, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return gated(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return gated(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a free permit
+     *
+     * @throws SQLTransientConnectionException if no permit became free within the timeout
+     */
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeoutMillis + "ms waiting for a database permit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+
+    /**
+     * Wraps a connection so closing it gives its permit back exactly once
+     */
+    private Connection gated(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    /////////////////////Getters/////////////////////
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /////////////////////Connection Proxy/////////////////////
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
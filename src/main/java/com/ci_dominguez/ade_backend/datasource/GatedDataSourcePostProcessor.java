@@ -0,0 +1,45 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link GatedDataSource} when the gate is enabled
+ * The gate follows spring.threads.virtual.enabled unless ade.datasource.gate.enabled says otherwise,
+ * and its permits default to the Hikari pool size
+ */
+@Component
+public class GatedDataSourcePostProcessor implements BeanPostProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(GatedDataSourcePostProcessor.class);
+
+    /////////////////////Instance Variables/////////////////////
+    private final boolean enabled;
+
+    private final int permits;
+
+    private final long acquireTimeoutMillis;
+
+    public GatedDataSourcePostProcessor(
+            @Value("${ade.datasource.gate.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${ade.datasource.gate.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${ade.datasource.gate.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        this.enabled = enabled;
+        this.permits = permits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+            return bean;
+        }
+        logger.info("Gating DataSource '{}' to {} concurrent connections", beanName, permits);
+        return new GatedDataSource(dataSource, permits, acquireTimeoutMillis);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import com.ci_dominguez.ade_backend.dto.QueryStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution time per normalized SQL statement over a rolling window, plus the slow query log
+ * Statistics are kept for the current and the previous window, so the top-N table always covers
+ * between one and two windows of traffic and old statements age out on their own
+ * Only normalized SQL is ever logged or reported, so bound parameters and literals never leave the driver
+ */
+@Component
+public class QueryStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatistics.class);
+
+    //Bucket for statements seen after a window already tracks maxStatements distinct ones
+    private static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final int MAX_NORMALIZED_CACHE_SIZE = 2_000;
+
+    /////////////////////Instance Variables/////////////////////
+    private final long windowNanos;
+
+    private final int maxStatements;
+
+    private final long slowThresholdNanos;
+
+    private final double slowSampleRate;
+
+    private final AtomicReference<Window> current;
+
+    private volatile Window previous;
+
+    //Raw SQL to normalized SQL, Hibernate sends the same few hundred strings over and over
+    private final Map<String, String> normalizedCache = new ConcurrentHashMap<>();
+
+    private final LongAdder slowQueries = new LongAdder();
+
+    public QueryStatistics(@Value("${ade.sql.stats.window-seconds:300}") long windowSeconds,
+                           @Value("${ade.sql.stats.max-statements:500}") int maxStatements,
+                           @Value("${ade.sql.slow-query.threshold-ms:200}") long slowThresholdMillis,
+                           @Value("${ade.sql.slow-query.sample-rate:1.0}") double slowSampleRate) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.maxStatements = maxStatements;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowSampleRate = slowSampleRate;
+        this.current = new AtomicReference<>(new Window(System.nanoTime()));
+        this.previous = new Window(System.nanoTime());
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Records one statement execution and logs it if it was slow
+     *
+     * @param sql The SQL as sent to the driver
+     * @param elapsedNanos How long the execution took
+     */
+    public void record(String sql, long elapsedNanos) {
+        String normalized = normalize(sql);
+        Window window = currentWindow(System.nanoTime());
+        String key = normalized;
+        if (window.entries.size() >= maxStatements && !window.entries.containsKey(key)) {
+            key = OTHER_STATEMENTS;
+        }
+        window.entries.computeIfAbsent(key, k -> new Entry()).add(elapsedNanos);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowQueries.increment();
+            if (slowSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+                logger.warn("Slow query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), normalized);
+            }
+        }
+    }
+
+    /**
+     * Lists the statements that spent the most total time executing over the last one to two windows
+     *
+     * @param limit The maximum number of statements to return
+     * @return the statements ordered by total execution time, most expensive first
+     */
+    public List<QueryStatsDTO> getTopStatements(int limit) {
+        Map<String, QueryStatsDTO> merged = new HashMap<>();
+        for (Window window : List.of(previous, currentWindow(System.nanoTime()))) {
+            window.entries.forEach((sql, entry) -> merged.merge(sql, entry.toDTO(sql), QueryStatsDTO::combine));
+        }
+        List<QueryStatsDTO> top = new ArrayList<>(merged.values());
+        top.sort(Comparator.comparingDouble(QueryStatsDTO::getTotalMillis).reversed());
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    private String normalize(String sql) {
+        String normalized = normalizedCache.get(sql);
+        if (normalized == null) {
+            normalized = SqlNormalizer.normalize(sql);
+            if (normalizedCache.size() >= MAX_NORMALIZED_CACHE_SIZE) {
+                normalizedCache.clear();
+            }
+            normalizedCache.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * Returns the window for the given time, rotating it first if it has run out
+     */
+    private Window currentWindow(long now) {
+        Window window = current.get();
+        if (now - window.startNanos < windowNanos) {
+            return window;
+        }
+        Window next = new Window(now);
+        if (current.compareAndSet(window, next)) {
+            previous = window;
+        }
+        return current.get();
+    }
+
+    /////////////////////Getters/////////////////////
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+    /////////////////////Windows/////////////////////
+    private static final class Window {
+        private final long startNanos;
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Entry {
+        private final LongAdder calls = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(long elapsedNanos) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private QueryStatsDTO toDTO(String sql) {
+            return new QueryStatsDTO(sql, calls.sum(), totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that times every statement executed through its connections and reports it to {@link QueryStatistics}
+ * Prepared statements are attributed to the SQL they were prepared with, plain statements to the SQL
+ * passed to execute (or the first addBatch of a batch)
+ */
+public class QueryStatsDataSource extends DelegatingDataSource {
+
+    /////////////////////Instance Variables/////////////////////
+    private final QueryStatistics statistics;
+
+    public QueryStatsDataSource(DataSource target, QueryStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /////////////////////JDBC Proxies/////////////////////
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "prepareStatement", "prepareCall", "createStatement": {
+                    Statement statement = (Statement) invokeTarget(target, method, args);
+                    String sql = method.getName().equals("createStatement") ? null : (String) args[0];
+                    return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                            new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, sql));
+                }
+                default:
+                    return invokeTarget(target, method, args);
+            }
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+
+        private String sql;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("addBatch") && sql == null && args != null && args[0] instanceof String batchSql) {
+                sql = batchSql;
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                if (executed != null) {
+                    statistics.record(executed, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link QueryStatsDataSource} unless ade.sql.stats.enabled is false
+ */
+@Component
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    /////////////////////Instance Variables/////////////////////
+    private final boolean enabled;
+
+    //Looked up lazily so QueryStatistics is still processed by every other post-processor
+    private final ObjectProvider<QueryStatistics> statistics;
+
+    public QueryStatsDataSourcePostProcessor(@Value("${ade.sql.stats.enabled:true}") boolean enabled,
+                                             ObjectProvider<QueryStatistics> statistics) {
+        this.enabled = enabled;
+        this.statistics = statistics;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof QueryStatsDataSource) {
+            return bean;
+        }
+        return new QueryStatsDataSource(dataSource, statistics.getObject());
+    }
+}
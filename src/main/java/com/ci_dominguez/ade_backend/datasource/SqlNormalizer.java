@@ -0,0 +1,112 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+/**
+ * Reduces SQL text to a shape that identifies the statement but none of its values
+ * String and numeric literals become ?, runs of whitespace become one space and comma separated
+ * placeholder lists collapse to a single ?, so "IN (?, ?, ?)" and "IN (?)" count as the same statement
+ * Column ordinals right after ORDER BY / GROUP BY are kept, Hibernate sorts by select position
+ * Written as a single scan instead of regex replacements because it runs for every executed statement
+ */
+final class SqlNormalizer {
+
+    private SqlNormalizer() {
+    }
+
+    /**
+     * Normalizes one SQL statement
+     *
+     * @param sql The SQL as sent to the driver
+     * @return the normalized statement, with no literal values left in it
+     */
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean ordinals = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty()) {
+                    ordinals = ordinals || endsWithBy(out);
+                    out.append(' ');
+                }
+            } else if (ordinals && (Character.isDigit(c) || c == ',')) {
+                out.append(c);
+                i++;
+            } else if (c == '\'') {
+                i = skipStringLiteral(sql, i + 1);
+                appendPlaceholder(out);
+            } else if (c == '?' || (Character.isDigit(c) && !endsWithIdentifier(out))) {
+                i++;
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendPlaceholder(out);
+            } else {
+                ordinals = false;
+                out.append(c);
+                i++;
+            }
+        }
+        if (!out.isEmpty() && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns the index just past the closing quote, treating '' as an escaped quote
+     */
+    private static int skipStringLiteral(String sql, int i) {
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Appends a placeholder unless it would only extend a "?, ?" list
+     */
+    private static void appendPlaceholder(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 1 && out.charAt(end - 1) == ',') {
+            int before = end - 1;
+            while (before > 0 && out.charAt(before - 1) == ' ') {
+                before--;
+            }
+            if (before > 0 && out.charAt(before - 1) == '?') {
+                out.setLength(before);
+                return;
+            }
+        }
+        out.append('?');
+    }
+
+    private static boolean endsWithBy(StringBuilder out) {
+        int length = out.length();
+        return length >= 3 && out.charAt(length - 3) == ' '
+                && Character.toLowerCase(out.charAt(length - 2)) == 'b'
+                && Character.toLowerCase(out.charAt(length - 1)) == 'y';
+    }
+
+    private static boolean endsWithIdentifier(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+}
@@ -0,0 +1,65 @@
+package com.ci_dominguez.ade_backend.dto;
+
+public class CacheRegionStatsDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final String region;
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long puts;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public CacheRegionStatsDTO(String region, long hits, long misses, long puts) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Calculates the share of lookups that were answered from the region
+     *
+     * @return the hit ratio between 0 and 1, or 0 if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Creates a string representing the CacheRegionStatsDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "CacheRegionStatsDTO{" +
+                "region='" + region + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", puts=" + puts +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getRegion() {
+        return region;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getPuts() {
+        return puts;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ci_dominguez.ade_backend.dto;
+
+public class CacheStatsDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final String name;
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final long invalidations;
+
+    private final int size;
+
+    private final int maxSize;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public CacheStatsDTO(String name, long hits, long misses, long evictions, long invalidations, int size, int maxSize) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Calculates the share of lookups that were answered from the cache
+     *
+     * @return the hit ratio between 0 and 1, or 0 if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Creates a string representing the CacheStatsDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "CacheStatsDTO{" +
+                "name='" + name + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", invalidations=" + invalidations +
+                ", size=" + size +
+                ", maxSize=" + maxSize +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ci_dominguez.ade_backend.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class DroppedSubmissionDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final String queue;
+
+    private final UUID trackingId;
+
+    private final Instant droppedAt;
+
+    //Exception type only, messages can quote the submitted values
+    private final String reason;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public DroppedSubmissionDTO(String queue, UUID trackingId, Instant droppedAt, String reason) {
+        this.queue = queue;
+        this.trackingId = trackingId;
+        this.droppedAt = droppedAt;
+        this.reason = reason;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Creates a string representing the DroppedSubmissionDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "DroppedSubmissionDTO{" +
+                "queue='" + queue + '\'' +
+                ", trackingId=" + trackingId +
+                ", droppedAt=" + droppedAt +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getQueue() {
+        return queue;
+    }
+
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public Instant getDroppedAt() {
+        return droppedAt;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
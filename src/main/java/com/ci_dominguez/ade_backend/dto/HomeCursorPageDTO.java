@@ -0,0 +1,50 @@
+package com.ci_dominguez.ade_backend.dto;
+
+import java.util.List;
+
+public class HomeCursorPageDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final List<HomeCardDTO> content;
+
+    private final String nextCursor;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public HomeCursorPageDTO(List<HomeCardDTO> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Indicates whether another slice can be requested with nextCursor
+     *
+     * @return true if more homes follow this slice
+     */
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Creates a string representing the HomeCursorPageDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "HomeCursorPageDTO{" +
+                "size=" + content.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public List<HomeCardDTO> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
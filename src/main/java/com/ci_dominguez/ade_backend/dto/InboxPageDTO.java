@@ -0,0 +1,50 @@
+package com.ci_dominguez.ade_backend.dto;
+
+import java.util.List;
+
+public class InboxPageDTO<T> {
+    /////////////////////Exposed Variables/////////////////////
+    private final List<T> content;
+
+    private final String nextCursor;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public InboxPageDTO(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Indicates whether another slice can be requested with nextCursor
+     *
+     * @return true if more entries follow this slice
+     */
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Creates a string representing the InboxPageDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "InboxPageDTO{" +
+                "size=" + content.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
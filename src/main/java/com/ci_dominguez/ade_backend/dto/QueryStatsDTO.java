@@ -0,0 +1,76 @@
+package com.ci_dominguez.ade_backend.dto;
+
+public class QueryStatsDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final String sql;
+
+    private final long calls;
+
+    private final double totalMillis;
+
+    private final double maxMillis;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public QueryStatsDTO(String sql, long calls, double totalMillis, double maxMillis) {
+        this.sql = sql;
+        this.calls = calls;
+        this.totalMillis = totalMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Adds up the statistics of the same statement from two windows
+     *
+     * @param first The statistics from one window
+     * @param second The statistics from the other window
+     * @return the combined statistics
+     */
+    public static QueryStatsDTO combine(QueryStatsDTO first, QueryStatsDTO second) {
+        return new QueryStatsDTO(first.sql, first.calls + second.calls,
+                first.totalMillis + second.totalMillis, Math.max(first.maxMillis, second.maxMillis));
+    }
+
+    /**
+     * Calculates the average execution time of the statement
+     *
+     * @return the mean time in milliseconds, or 0 if it was never executed
+     */
+    public double getMeanMillis() {
+        return calls == 0 ? 0.0 : totalMillis / calls;
+    }
+
+    /**
+     * Creates a string representing the QueryStatsDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "QueryStatsDTO{" +
+                "sql='" + sql + '\'' +
+                ", calls=" + calls +
+                ", totalMillis=" + totalMillis +
+                ", maxMillis=" + maxMillis +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ci_dominguez.ade_backend.dto;
+
+import java.util.UUID;
+
+public class SubmissionReceiptDTO {
+    /////////////////////Exposed Variables/////////////////////
+    private final UUID trackingId;
+
+    /////////////////////Constructors/////////////////////
+    public SubmissionReceiptDTO(UUID trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Creates a string representing the SubmissionReceiptDTO object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "SubmissionReceiptDTO{" +
+                "trackingId=" + trackingId +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+}
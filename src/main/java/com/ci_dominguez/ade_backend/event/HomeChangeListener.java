@@ -0,0 +1,45 @@
+package com.ci_dominguez.ade_backend.event;
+
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.HomeDetails;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener attached to Home and HomeDetails
+ * Hibernate resolves it through Spring's bean container, so it can publish application events
+ * that cache and index components consume once the surrounding transaction commits
+ */
+@Component
+public class HomeChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public HomeChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /////////////////////Lifecycle Callbacks/////////////////////
+    /**
+     * Invoked after a Home or HomeDetails has been inserted, updated or deleted
+     * Runs after the entity's own @PrePersist/@PreUpdate callbacks, once the id is assigned
+     *
+     * @param entity The Home or HomeDetails entity that changed
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onHomeChanged(Object entity) {
+        Long homeId = null;
+        if (entity instanceof Home home) {
+            homeId = home.getId();
+        } else if (entity instanceof HomeDetails details && details.getHome() != null) {
+            //Reading the id of a lazy proxy does not initialize it
+            homeId = details.getHome().getId();
+        }
+        eventPublisher.publishEvent(new HomeChangedEvent(homeId));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ci_dominguez.ade_backend.event;
+
+/**
+ * Published whenever a Home (or its HomeDetails) row is inserted, updated or deleted
+ * Purpose: Lets in-memory read models drop or rebuild whatever they derived from the catalogue
+ */
+public class HomeChangedEvent {
+    /////////////////////Exposed Variables/////////////////////
+    private final Long homeId;
+
+    /////////////////////Constructors/////////////////////
+    public HomeChangedEvent(Long homeId) {
+        this.homeId = homeId;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public String toString() {
+        return "HomeChangedEvent{" +
+                "homeId=" + homeId +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public Long getHomeId() {
+        return homeId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ci_dominguez.ade_backend.event;
+
+/**
+ * Published whenever a ContactMessage or Visits row is inserted with, moved to or deleted from a status
+ * Purpose: Lets the status counters be maintained incrementally instead of recounting the table
+ */
+public class StatusChangedEvent {
+    /////////////////////Exposed Variables/////////////////////
+    //null when the row was just inserted
+    private final Enum<?> previousStatus;
+
+    //null when the row was deleted
+    private final Enum<?> newStatus;
+
+    /////////////////////Constructors/////////////////////
+    public StatusChangedEvent(Enum<?> previousStatus, Enum<?> newStatus) {
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public String toString() {
+        return "StatusChangedEvent{" +
+                "previousStatus=" + previousStatus +
+                ", newStatus=" + newStatus +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public Enum<?> getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Enum<?> getNewStatus() {
+        return newStatus;
+    }
+}
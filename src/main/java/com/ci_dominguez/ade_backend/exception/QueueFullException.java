@@ -0,0 +1,7 @@
+package com.ci_dominguez.ade_backend.exception;
+
+public class QueueFullException extends RuntimeException {
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
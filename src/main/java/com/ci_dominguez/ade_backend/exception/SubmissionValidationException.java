@@ -0,0 +1,18 @@
+package com.ci_dominguez.ade_backend.exception;
+
+import jakarta.validation.ValidationException;
+
+import java.util.Map;
+
+public class SubmissionValidationException extends ValidationException {
+    private final Map<String, String> fieldErrors;
+
+    public SubmissionValidationException(Map<String, String> fieldErrors) {
+        super(String.join("; ", fieldErrors.values()));
+        this.fieldErrors = fieldErrors;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
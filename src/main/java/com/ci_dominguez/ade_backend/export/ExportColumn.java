@@ -0,0 +1,13 @@
+package com.ci_dominguez.ade_backend.export;
+
+import java.util.function.Function;
+
+/**
+ * One named column of an export and how to read it from a row
+ *
+ * @param name The column name, used as CSV header and NDJSON field name
+ * @param value Reads the column's value from a row, may return null
+ * @param <T> The type of the exported rows
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+}
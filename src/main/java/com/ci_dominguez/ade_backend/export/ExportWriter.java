@@ -0,0 +1,50 @@
+package com.ci_dominguez.ade_backend.export;
+
+import com.ci_dominguez.ade_backend.model.enums.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes exported rows to a stream one at a time, so nothing but the current row is held in memory
+ *
+ * @param <T> The type of the exported rows
+ */
+public interface ExportWriter<T> {
+
+    /**
+     * Creates the writer for the given format
+     *
+     * @param format The requested export format
+     * @param columns The columns to write for each row
+     * @param objectMapper The application's ObjectMapper, used for NDJSON values
+     * @param out The stream to write to, left open by the writer
+     * @return a writer for the format
+     */
+    static <T> ExportWriter<T> of(ExportFormat format, List<ExportColumn<T>> columns,
+                                  ObjectMapper objectMapper, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter<>(columns, out);
+            case NDJSON -> new NdjsonExportWriter<>(columns, objectMapper, out);
+        };
+    }
+
+    /**
+     * Writes whatever has to precede the first row
+     */
+    void writeHeader() throws IOException;
+
+    /**
+     * Writes one row
+     *
+     * @param row The row to write
+     */
+    void writeRow(T row) throws IOException;
+
+    /**
+     * Flushes everything written so far without closing the underlying stream
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,49 @@
+package com.ci_dominguez.ade_backend.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON, one object per row
+ * Fields are written explicitly from the export columns, so lazy associations are never serialized
+ */
+class NdjsonExportWriter<T> implements ExportWriter<T> {
+
+    /////////////////////Instance Variables/////////////////////
+    private final List<ExportColumn<T>> columns;
+
+    private final JsonGenerator generator;
+
+    NdjsonExportWriter(List<ExportColumn<T>> columns, ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.columns = columns;
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        //Rows are separated by the newline written after each one, not by Jackson's default space
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public void writeHeader() {
+        //NDJSON has no header, every line describes itself
+    }
+
+    @Override
+    public void writeRow(T row) throws IOException {
+        generator.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            generator.writeObjectField(column.name(), column.value().apply(row));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,201 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable prefix index of home addresses
+ * Addresses are split into lower-cased alphanumeric tokens ("2583 Cedar Way, Franklin, TN" gives 2583, cedar,
+ * way, franklin and tn). Each distinct token is stored once, in sorted order, in a single char array with the
+ * positions of the homes containing it; a token prefix is therefore a contiguous run found with one binary search.
+ * Homes are numbered in address order, so intersecting the runs of every query token as bitsets and reading the
+ * first set bits yields the alphabetically first matches without sorting.
+ */
+final class AddressPrefixIndex {
+
+    private static final Comparator<HomeCardDTO> ADDRESS_ORDER = Comparator
+            .comparing((HomeCardDTO card) -> normalize(card.getAddress()))
+            .thenComparing(HomeCardDTO::getId);
+
+    /////////////////////Instance Variables/////////////////////
+    //Homes in address order, a home's position in this array is its number in the postings
+    private final HomeCardDTO[] byAddress;
+
+    //Distinct tokens in ascending order, token i is tokenChars[tokenStart[i], tokenStart[i + 1])
+    private final char[] tokenChars;
+
+    private final int[] tokenStart;
+
+    //The homes containing token i are postings[postingStart[i], postingStart[i + 1]), in ascending order
+    private final int[] postings;
+
+    private final int[] postingStart;
+
+    /**
+     * Builds the index of a catalogue
+     *
+     * @param cards The home cards, in any order
+     */
+    AddressPrefixIndex(HomeCardDTO[] cards) {
+        this.byAddress = cards.clone();
+        Arrays.sort(byAddress, ADDRESS_ORDER);
+        List<Posting> all = new ArrayList<>(byAddress.length * 5);
+        for (int home = 0; home < byAddress.length; home++) {
+            for (String token : tokenize(byAddress[home].getAddress())) {
+                all.add(new Posting(token, home));
+            }
+        }
+        all.sort(Comparator.comparing(Posting::token).thenComparingInt(Posting::home));
+
+        StringBuilder chars = new StringBuilder();
+        int[] starts = new int[all.size() + 1];
+        int[] firstPostings = new int[all.size() + 1];
+        this.postings = new int[all.size()];
+        int tokens = 0;
+        String previous = null;
+        for (int i = 0; i < all.size(); i++) {
+            Posting posting = all.get(i);
+            if (!posting.token().equals(previous)) {
+                starts[tokens] = chars.length();
+                firstPostings[tokens] = i;
+                chars.append(posting.token());
+                previous = posting.token();
+                tokens++;
+            }
+            postings[i] = posting.home();
+        }
+        starts[tokens] = chars.length();
+        firstPostings[tokens] = all.size();
+        this.tokenChars = chars.toString().toCharArray();
+        this.tokenStart = Arrays.copyOf(starts, tokens + 1);
+        this.postingStart = Arrays.copyOf(firstPostings, tokens + 1);
+    }
+
+    /////////////////////Queries/////////////////////
+    /**
+     * Finds the homes whose address has, for every token of the query, a token starting with it
+     *
+     * @param query The text typed so far
+     * @param limit The maximum number of homes to return
+     * @return The matching home cards in address order
+     */
+    List<HomeCardDTO> matching(String query, int limit) {
+        Set<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        BitSet matches = null;
+        for (String prefix : queryTokens) {
+            BitSet homes = withTokenPrefix(prefix);
+            if (matches == null) {
+                matches = homes;
+            } else {
+                matches.and(homes);
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+        List<HomeCardDTO> homes = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        for (int home = matches.nextSetBit(0); home >= 0 && homes.size() < limit; home = matches.nextSetBit(home + 1)) {
+            homes.add(byAddress[home]);
+        }
+        return homes;
+    }
+
+    /////////////////////Helpers/////////////////////
+    /**
+     * Marks the homes having a token that starts with the prefix
+     * The matching tokens follow the first token not less than the prefix
+     */
+    private BitSet withTokenPrefix(String prefix) {
+        BitSet homes = new BitSet(byAddress.length);
+        int tokenCount = tokenStart.length - 1;
+        int token = lowerBound(prefix);
+        while (token < tokenCount && startsWith(token, prefix)) {
+            for (int i = postingStart[token]; i < postingStart[token + 1]; i++) {
+                homes.set(postings[i]);
+            }
+            token++;
+        }
+        return homes;
+    }
+
+    //First token that is not less than the key
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = tokenStart.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int token, String key) {
+        int start = tokenStart[token];
+        int length = tokenStart[token + 1] - start;
+        int common = Math.min(length, key.length());
+        for (int i = 0; i < common; i++) {
+            int diff = tokenChars[start + i] - key.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length();
+    }
+
+    private boolean startsWith(int token, String prefix) {
+        int start = tokenStart[token];
+        if (tokenStart[token + 1] - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (tokenChars[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits text into its distinct lower-cased runs of letters and digits
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean tokenChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Posting(String token, int home) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.event.HomeChangedEvent;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process columnar index of the home catalogue, answering cost range and minimum bedroom/bathroom
+ * filters and address autocompletion without a database round-trip
+ * Readers use the current immutable HomeColumns without locking. It is built with one query the first time
+ * it is needed and, when a single Home changes, patched by reloading only that home's card.
+ * A periodic rebuild picks up rows written outside JPA, which publish no HomeChangedEvent.
+ */
+@Component
+public class HomeCatalogIndex {
+    private static final Logger logger = LoggerFactory.getLogger(HomeCatalogIndex.class);
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeRepository homeRepository;
+
+    //Serializes builds and patches so a patch is never applied to columns it did not read
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    //null until built, and again after a failed patch so the next read rebuilds it
+    private volatile HomeColumns columns;
+
+    public HomeCatalogIndex(HomeRepository homeRepository) {
+        this.homeRepository = homeRepository;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Finds homes within a cost range, bounds included
+     *
+     * @param minCost The minimum cost
+     * @param maxCost The maximum cost
+     * @return The matching home cards in ascending cost order
+     * @throws DataAccessException if the index has to be built and the catalogue cannot be read
+     */
+    public List<HomeCardDTO> findByCostRange(BigDecimal minCost, BigDecimal maxCost) {
+        return current().costRange(minCost, maxCost);
+    }
+
+    /**
+     * Finds homes with at least the given number of bedrooms and bathrooms
+     *
+     * @param minBedrooms The minimum number of bedrooms
+     * @param minBathrooms The minimum number of bathrooms
+     * @return The matching home cards in ascending cost order
+     * @throws DataAccessException if the index has to be built and the catalogue cannot be read
+     */
+    public List<HomeCardDTO> findByMinBedroomsAndBathrooms(BigDecimal minBedrooms, BigDecimal minBathrooms) {
+        return current().atLeast(minBedrooms, minBathrooms);
+    }
+
+    /**
+     * Finds the homes whose address tokens start with the tokens of a query
+     *
+     * @param query The text typed so far
+     * @param limit The maximum number of homes to return
+     * @return The matching home cards in address order
+     * @throws DataAccessException if the index has to be built and the catalogue cannot be read
+     */
+    public List<HomeCardDTO> findByAddressPrefix(String query, int limit) {
+        return current().addressPrefix(query, limit);
+    }
+
+    /**
+     * Looks up the card of one home
+     *
+     * @param homeId The id of the home
+     * @return The home card, or null if the home does not exist
+     * @throws DataAccessException if the index has to be built and the catalogue cannot be read
+     */
+    public HomeCardDTO findCard(Long homeId) {
+        return current().card(homeId);
+    }
+
+    /**
+     * Returns the number of indexed homes
+     *
+     * @return The catalogue size, or 0 if the index has not been built
+     */
+    public int getSize() {
+        HomeColumns current = columns;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Builds the index once the application has started so the first search does not pay for it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            current();
+        } catch (DataAccessException e) {
+            logger.warn("Could not build the home index at startup, it will be built on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in
+     * Readers keep using the previous columns until the new ones are ready
+     */
+    @Scheduled(fixedDelayString = "${ade.index.homes.rebuild-interval-ms:300000}",
+            initialDelayString = "${ade.index.homes.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            columns = HomeColumns.of(homeRepository.findAllHomeCards());
+            logger.debug("Rebuilt home index with {} homes", columns.size());
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild the home index: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Patches the index once the transaction that changed a Home has committed
+     * Falls back to patching immediately when the change happened outside a transaction
+     *
+     * @param event The change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeChanged(HomeChangedEvent event) {
+        writeLock.lock();
+        try {
+            HomeColumns current = columns;
+            if (current == null) {
+                return;
+            }
+            if (event.getHomeId() == null) {
+                columns = null;
+                return;
+            }
+            Optional<HomeCardDTO> card = homeRepository.findHomeCardById(event.getHomeId());
+            columns = card.isPresent() ? current.with(card.get()) : current.without(event.getHomeId());
+        } catch (DataAccessException e) {
+            logger.warn("Could not patch the home index for home {}, rebuilding on next use: {}",
+                    event.getHomeId(), e.getMessage());
+            columns = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private HomeColumns current() {
+        HomeColumns current = columns;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (columns == null) {
+                columns = HomeColumns.of(homeRepository.findAllHomeCards());
+                logger.info("Built home index with {} homes", columns.size());
+            }
+            return columns;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
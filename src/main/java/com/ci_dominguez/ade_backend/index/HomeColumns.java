@@ -0,0 +1,269 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column store of the home catalogue
+ * Homes are kept in cost order with their attributes in parallel primitive arrays: cost in cents, bedrooms and
+ * bathrooms in hundredths and yearBuilt as is. The cost, bedrooms and bathrooms columns are numeric(38,2), so the
+ * scaled values are exact. Cost ranges are a binary searched slice of the cost column; minimum bedroom and bathroom
+ * filters binary search an ascending permutation of each column and intersect the matching positions as bitsets.
+ * Homes without a value in a column never match a filter on it, the same as the SQL comparisons they replace.
+ */
+final class HomeColumns {
+
+    static final int NO_YEAR = Integer.MIN_VALUE;
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    //Priced homes by ascending cost then id, followed by the unpriced ones
+    private static final Comparator<HomeCardDTO> COST_ORDER = Comparator
+            .comparing(HomeCardDTO::getCost, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(HomeCardDTO::getId);
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeCardDTO[] cards;
+
+    private final long[] costCents;
+
+    //Positions [0, pricedCount) have a cost
+    private final int pricedCount;
+
+    private final int[] yearBuilt;
+
+    //Positions of homes with a bedroom count, ordered by it, and the counts in that order
+    private final int[] byBedrooms;
+
+    private final int[] sortedBedrooms;
+
+    private final int[] byBathrooms;
+
+    private final int[] sortedBathrooms;
+
+    private final Map<Long, HomeCardDTO> cardsById;
+
+    private final AddressPrefixIndex addresses;
+
+    private HomeColumns(HomeCardDTO[] cards) {
+        int n = cards.length;
+        this.cards = cards;
+        this.cardsById = HashMap.newHashMap(n);
+        this.addresses = new AddressPrefixIndex(cards);
+        this.costCents = new long[n];
+        this.yearBuilt = new int[n];
+        int priced = 0;
+        long[] bedroomKeys = new long[n];
+        long[] bathroomKeys = new long[n];
+        int bedroomCount = 0;
+        int bathroomCount = 0;
+        for (int i = 0; i < n; i++) {
+            HomeCardDTO card = cards[i];
+            cardsById.put(card.getId(), card);
+            if (card.getCost() != null) {
+                costCents[i] = scaled(card.getCost(), RoundingMode.FLOOR);
+                priced++;
+            }
+            yearBuilt[i] = card.getYearBuilt() == null ? NO_YEAR : card.getYearBuilt();
+            if (card.getBedrooms() != null) {
+                bedroomKeys[bedroomCount++] = sortKey(card.getBedrooms(), i);
+            }
+            if (card.getBathrooms() != null) {
+                bathroomKeys[bathroomCount++] = sortKey(card.getBathrooms(), i);
+            }
+        }
+        this.pricedCount = priced;
+        this.byBedrooms = new int[bedroomCount];
+        this.sortedBedrooms = new int[bedroomCount];
+        permutation(bedroomKeys, bedroomCount, byBedrooms, sortedBedrooms);
+        this.byBathrooms = new int[bathroomCount];
+        this.sortedBathrooms = new int[bathroomCount];
+        permutation(bathroomKeys, bathroomCount, byBathrooms, sortedBathrooms);
+    }
+
+    /////////////////////Factories/////////////////////
+    /**
+     * Builds the columns of a catalogue
+     *
+     * @param homes The home cards, in any order
+     * @return The column store
+     */
+    static HomeColumns of(Collection<HomeCardDTO> homes) {
+        HomeCardDTO[] cards = homes.toArray(new HomeCardDTO[0]);
+        Arrays.sort(cards, COST_ORDER);
+        return new HomeColumns(cards);
+    }
+
+    /**
+     * Builds a copy of these columns with one home inserted or replaced
+     *
+     * @param home The current card of the home
+     * @return The patched column store
+     */
+    HomeColumns with(HomeCardDTO home) {
+        List<HomeCardDTO> homes = others(home.getId());
+        homes.add(home);
+        return of(homes);
+    }
+
+    /**
+     * Builds a copy of these columns without one home
+     *
+     * @param homeId The id of the removed home
+     * @return The patched column store
+     */
+    HomeColumns without(Long homeId) {
+        return of(others(homeId));
+    }
+
+    /////////////////////Queries/////////////////////
+    /**
+     * Finds the homes whose cost lies within a range, bounds included
+     *
+     * @param minCost The minimum cost
+     * @param maxCost The maximum cost
+     * @return The matching home cards in ascending cost order
+     */
+    List<HomeCardDTO> costRange(BigDecimal minCost, BigDecimal maxCost) {
+        int from = lowerBound(costCents, pricedCount, scaled(minCost, RoundingMode.CEILING));
+        long maxCents = scaled(maxCost, RoundingMode.FLOOR);
+        int to = maxCents == Long.MAX_VALUE ? pricedCount : lowerBound(costCents, pricedCount, maxCents + 1);
+        return from >= to ? List.of() : List.of(Arrays.copyOfRange(cards, from, to));
+    }
+
+    /**
+     * Finds the homes with at least the given number of bedrooms and bathrooms
+     *
+     * @param minBedrooms The minimum number of bedrooms
+     * @param minBathrooms The minimum number of bathrooms
+     * @return The matching home cards in ascending cost order
+     */
+    List<HomeCardDTO> atLeast(BigDecimal minBedrooms, BigDecimal minBathrooms) {
+        BitSet matches = atLeast(byBedrooms, sortedBedrooms, scaled(minBedrooms, RoundingMode.CEILING));
+        if (!matches.isEmpty()) {
+            matches.and(atLeast(byBathrooms, sortedBathrooms, scaled(minBathrooms, RoundingMode.CEILING)));
+        }
+        List<HomeCardDTO> homes = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            homes.add(cards[i]);
+        }
+        return homes;
+    }
+
+    /**
+     * Finds the homes whose address tokens start with the tokens of a query, as typed in an autocomplete box
+     *
+     * @param query The text typed so far
+     * @param limit The maximum number of homes to return
+     * @return The matching home cards in address order
+     */
+    List<HomeCardDTO> addressPrefix(String query, int limit) {
+        return addresses.matching(query, limit);
+    }
+
+    /**
+     * Looks up the card of one home
+     *
+     * @param homeId The id of the home
+     * @return The home card, or null if the home is not in the catalogue
+     */
+    HomeCardDTO card(Long homeId) {
+        return cardsById.get(homeId);
+    }
+
+    int size() {
+        return cards.length;
+    }
+
+    /////////////////////Helpers/////////////////////
+    private List<HomeCardDTO> others(Long homeId) {
+        List<HomeCardDTO> homes = new ArrayList<>(cards.length + 1);
+        for (HomeCardDTO card : cards) {
+            if (!card.getId().equals(homeId)) {
+                homes.add(card);
+            }
+        }
+        return homes;
+    }
+
+    /**
+     * Marks the positions whose value is at least the minimum
+     * They form the tail of the ascending permutation, found with one binary search
+     */
+    private BitSet atLeast(int[] positions, int[] sortedValues, long min) {
+        BitSet matches = new BitSet(cards.length);
+        for (int i = lowerBound(sortedValues, min); i < positions.length; i++) {
+            matches.set(positions[i]);
+        }
+        return matches;
+    }
+
+    /**
+     * Sorts (value, position) keys and splits them into the position permutation and the values in that order
+     */
+    private static void permutation(long[] keys, int count, int[] positions, int[] values) {
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            positions[i] = (int) keys[i];
+            values[i] = (int) (keys[i] >> 32);
+        }
+    }
+
+    //The value in the high half orders the keys, the position in the low half breaks ties
+    private static long sortKey(BigDecimal value, int position) {
+        long hundredths = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, scaled(value, RoundingMode.FLOOR)));
+        return (hundredths << 32) | position;
+    }
+
+    /**
+     * Converts a value to hundredths, saturating at the long range
+     */
+    private static long scaled(BigDecimal value, RoundingMode mode) {
+        BigDecimal hundredths = value.movePointRight(2).setScale(0, mode);
+        if (hundredths.compareTo(LONG_MAX) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        return hundredths.compareTo(LONG_MIN) <= 0 ? Long.MIN_VALUE : hundredths.longValue();
+    }
+
+    //First index in a[0, length) whose value is >= key
+    private static int lowerBound(long[] a, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] a, long key) {
+        int low = 0;
+        int high = a.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
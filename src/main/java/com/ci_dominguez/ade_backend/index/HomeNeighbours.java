@@ -0,0 +1,283 @@
+package com.ci_dominguez.ade_backend.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Immutable table of the k most similar homes of every home in the catalogue
+ * Each home becomes a float vector: cost and livable area on a log scale, bedrooms, bathrooms and yearBuilt as is,
+ * each standardized to mean 0 and standard deviation 1 so no attribute dominates, followed by a one-hot encoding of
+ * the home type. A missing attribute is set to the mean and so neither attracts nor repels. Neighbours are the
+ * closest vectors by euclidean distance, found by an exhaustive search split across the fork-join pool.
+ */
+final class HomeNeighbours {
+
+    //Column order of the rows returned by HomeRepository.findAllSimilarityFeatures
+    private static final int ID = 0;
+
+    private static final int COST = 1;
+
+    private static final int BEDROOMS = 2;
+
+    private static final int BATHROOMS = 3;
+
+    private static final int LIVABLE_AREA = 4;
+
+    private static final int YEAR_BUILT = 5;
+
+    private static final int HOME_TYPE = 6;
+
+    private static final int NUMERIC_FEATURES = 5;
+
+    //Homes searched by one fork-join task before it stops splitting
+    private static final int SEARCH_BATCH = 64;
+
+    /////////////////////Instance Variables/////////////////////
+    private final long[] homeIds;
+
+    private final Map<Long, Integer> positions;
+
+    private final int k;
+
+    //The neighbours of the home at position i are neighbours[i * k, (i + 1) * k), nearest first, -1 padded
+    private final int[] neighbours;
+
+    private HomeNeighbours(long[] homeIds, int k, int[] neighbours) {
+        this.homeIds = homeIds;
+        this.k = k;
+        this.neighbours = neighbours;
+        this.positions = HashMap.newHashMap(homeIds.length);
+        for (int i = 0; i < homeIds.length; i++) {
+            positions.put(homeIds[i], i);
+        }
+    }
+
+    /////////////////////Factories/////////////////////
+    /**
+     * Vectorizes a catalogue and searches the neighbours of every home
+     *
+     * @param rows One row per home: id, cost, bedrooms, bathrooms, livableAreaSize, yearBuilt and homeType
+     * @param k The number of neighbours to keep per home
+     * @return The neighbour table
+     */
+    static HomeNeighbours of(List<Object[]> rows, int k) {
+        int n = rows.size();
+        long[] homeIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            homeIds[i] = ((Number) rows.get(i)[ID]).longValue();
+        }
+        Map<String, Integer> homeTypes = new HashMap<>();
+        for (Object[] row : rows) {
+            String homeType = homeType(row);
+            if (homeType != null) {
+                homeTypes.putIfAbsent(homeType, homeTypes.size());
+            }
+        }
+        int dimensions = NUMERIC_FEATURES + homeTypes.size();
+        float[] vectors = new float[n * dimensions];
+        standardize(rows, COST, true, vectors, dimensions, 0);
+        standardize(rows, BEDROOMS, false, vectors, dimensions, 1);
+        standardize(rows, BATHROOMS, false, vectors, dimensions, 2);
+        standardize(rows, LIVABLE_AREA, true, vectors, dimensions, 3);
+        standardize(rows, YEAR_BUILT, false, vectors, dimensions, 4);
+        for (int i = 0; i < n; i++) {
+            String homeType = homeType(rows.get(i));
+            if (homeType != null) {
+                vectors[i * dimensions + NUMERIC_FEATURES + homeTypes.get(homeType)] = 1f;
+            }
+        }
+
+        int[] neighbours = new int[n * k];
+        Arrays.fill(neighbours, -1);
+        ForkJoinPool.commonPool().invoke(new NeighbourSearch(vectors, dimensions, n, k, neighbours, 0, n));
+        return new HomeNeighbours(homeIds, k, neighbours);
+    }
+
+    /////////////////////Queries/////////////////////
+    /**
+     * Returns the most similar homes of one home
+     *
+     * @param homeId The id of the home
+     * @param limit The maximum number of homes to return
+     * @return The ids of the most similar homes, nearest first, or null if the home is not in the table
+     */
+    List<Long> neighboursOf(Long homeId, int limit) {
+        Integer position = positions.get(homeId);
+        if (position == null) {
+            return null;
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, k));
+        for (int i = position * k; i < (position + 1) * k && ids.size() < limit; i++) {
+            if (neighbours[i] < 0) {
+                break;
+            }
+            ids.add(homeIds[neighbours[i]]);
+        }
+        return ids;
+    }
+
+    int size() {
+        return homeIds.length;
+    }
+
+    /////////////////////Helpers/////////////////////
+    /**
+     * Writes one attribute of every home into its vectors as a z-score, missing values as 0
+     */
+    private static void standardize(List<Object[]> rows, int column, boolean logScale, float[] vectors,
+                                    int dimensions, int offset) {
+        int n = rows.size();
+        double[] values = new double[n];
+        double sum = 0;
+        int present = 0;
+        for (int i = 0; i < n; i++) {
+            double value = numeric(rows.get(i)[column]);
+            values[i] = logScale && value >= 0 ? Math.log1p(value) : value;
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                present++;
+            }
+        }
+        if (present == 0) {
+            return;
+        }
+        double mean = sum / present;
+        double squares = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                squares += (value - mean) * (value - mean);
+            }
+        }
+        double deviation = Math.sqrt(squares / present);
+        double scale = deviation > 0 ? 1 / deviation : 1;
+        for (int i = 0; i < n; i++) {
+            if (!Double.isNaN(values[i])) {
+                vectors[i * dimensions + offset] = (float) ((values[i] - mean) * scale);
+            }
+        }
+    }
+
+    /**
+     * Reads a numeric attribute, parsing the leading number of text such as "3,627 sqft"
+     *
+     * @return The value, or NaN if it is missing or has no number
+     */
+    private static double numeric(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.doubleValue();
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (!(value instanceof String text)) {
+            return Double.NaN;
+        }
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= '0' && c <= '9') || (c == '.' && !digits.isEmpty())) {
+                digits.append(c);
+            } else if (c == ',' && !digits.isEmpty()) {
+                //Thousands separator
+                continue;
+            } else if (!digits.isEmpty()) {
+                break;
+            }
+        }
+        try {
+            return digits.isEmpty() ? Double.NaN : Double.parseDouble(digits.toString());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static String homeType(Object[] row) {
+        return row[HOME_TYPE] instanceof String homeType && !homeType.isBlank()
+                ? homeType.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /////////////////////Neighbour Search/////////////////////
+    /**
+     * Finds the neighbours of the homes in [from, to), splitting the range until it is small enough
+     * Each task writes only the neighbour slots of its own homes, so tasks never share mutable state
+     */
+    private static final class NeighbourSearch extends RecursiveAction {
+        private final float[] vectors;
+
+        private final int dimensions;
+
+        private final int n;
+
+        private final int k;
+
+        private final int[] neighbours;
+
+        private final int from;
+
+        private final int to;
+
+        NeighbourSearch(float[] vectors, int dimensions, int n, int k, int[] neighbours, int from, int to) {
+            this.vectors = vectors;
+            this.dimensions = dimensions;
+            this.n = n;
+            this.k = k;
+            this.neighbours = neighbours;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEARCH_BATCH) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new NeighbourSearch(vectors, dimensions, n, k, neighbours, from, mid),
+                        new NeighbourSearch(vectors, dimensions, n, k, neighbours, mid, to));
+                return;
+            }
+            float[] nearest = new float[k];
+            for (int home = from; home < to; home++) {
+                search(home, nearest);
+            }
+        }
+
+        /**
+         * Keeps the k smallest squared distances in ascending order by insertion
+         * A candidate is abandoned as soon as its partial distance exceeds the current k-th best
+         */
+        private void search(int home, float[] nearest) {
+            Arrays.fill(nearest, Float.POSITIVE_INFINITY);
+            int slots = home * k;
+            int base = home * dimensions;
+            for (int other = 0; other < n; other++) {
+                if (other == home) {
+                    continue;
+                }
+                float worst = nearest[k - 1];
+                int otherBase = other * dimensions;
+                float distance = 0;
+                for (int d = 0; d < dimensions && distance < worst; d++) {
+                    float diff = vectors[base + d] - vectors[otherBase + d];
+                    distance += diff * diff;
+                }
+                if (distance >= worst) {
+                    continue;
+                }
+                int slot = k - 1;
+                while (slot > 0 && nearest[slot - 1] > distance) {
+                    nearest[slot] = nearest[slot - 1];
+                    neighbours[slots + slot] = neighbours[slots + slot - 1];
+                    slot--;
+                }
+                nearest[slot] = distance;
+                neighbours[slots + slot] = other;
+            }
+        }
+    }
+}
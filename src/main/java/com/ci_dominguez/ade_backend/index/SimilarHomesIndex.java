@@ -0,0 +1,170 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.event.HomeChangedEvent;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process table of the most similar homes of every home, answering "similar homes" without a database round-trip
+ * Readers use the current immutable HomeNeighbours without locking and resolve the neighbour ids through the
+ * HomeCatalogIndex. Since one home moves the neighbours of many others, a change is not patched in: it marks the
+ * table stale and a periodic refresh recomputes it, so a burst of changes costs a single recomputation.
+ * A slower periodic rebuild picks up rows written outside JPA, which publish no HomeChangedEvent.
+ */
+@Component
+public class SimilarHomesIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SimilarHomesIndex.class);
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeRepository homeRepository;
+
+    private final HomeCatalogIndex homeCatalogIndex;
+
+    private final int neighbourCount;
+
+    //Serializes recomputations, each one reads the whole catalogue
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    //null until built
+    private volatile HomeNeighbours neighbours;
+
+    private volatile boolean stale;
+
+    public SimilarHomesIndex(HomeRepository homeRepository, HomeCatalogIndex homeCatalogIndex,
+                             @Value("${ade.index.similar-homes.neighbours:10}") int neighbourCount) {
+        if (neighbourCount < 1) {
+            throw new IllegalArgumentException("ade.index.similar-homes.neighbours must be at least 1");
+        }
+        this.homeRepository = homeRepository;
+        this.homeCatalogIndex = homeCatalogIndex;
+        this.neighbourCount = neighbourCount;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Finds the homes most similar to one home
+     *
+     * @param homeId The id of the home
+     * @param limit The maximum number of homes to return
+     * @return The most similar home cards, nearest first, or null if the home is not indexed
+     * @throws DataAccessException if the index has to be built and the catalogue cannot be read
+     */
+    public List<HomeCardDTO> findSimilar(Long homeId, int limit) {
+        List<Long> ids = current().neighboursOf(homeId, limit);
+        if (ids == null) {
+            return null;
+        }
+        List<HomeCardDTO> homes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            //Skips a neighbour deleted since the last recomputation
+            HomeCardDTO card = homeCatalogIndex.findCard(id);
+            if (card != null) {
+                homes.add(card);
+            }
+        }
+        return homes;
+    }
+
+    /**
+     * Returns the number of neighbours kept per home, the largest limit findSimilar can fill
+     *
+     * @return The configured neighbour count
+     */
+    public int getNeighbourCount() {
+        return neighbourCount;
+    }
+
+    /**
+     * Builds the index once the application has started so the first request does not pay for it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            current();
+        } catch (DataAccessException e) {
+            logger.warn("Could not build the similar homes index at startup, it will be built on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the index stale once the transaction that changed a Home has committed
+     * Falls back to marking it immediately when the change happened outside a transaction
+     *
+     * @param event The change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeChanged(HomeChangedEvent event) {
+        stale = true;
+    }
+
+    /**
+     * Recomputes the index if a Home changed since the last computation
+     */
+    @Scheduled(fixedDelayString = "${ade.index.similar-homes.refresh-interval-ms:5000}",
+            initialDelayString = "${ade.index.similar-homes.refresh-interval-ms:5000}")
+    public void refreshIfStale() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes the index from the database and swaps it in
+     * Readers keep using the previous table until the new one is ready
+     */
+    @Scheduled(fixedDelayString = "${ade.index.similar-homes.rebuild-interval-ms:300000}",
+            initialDelayString = "${ade.index.similar-homes.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            neighbours = build();
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild the similar homes index: {}", e.getMessage());
+            stale = true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private HomeNeighbours current() {
+        HomeNeighbours current = neighbours;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (neighbours == null) {
+                neighbours = build();
+            }
+            return neighbours;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Computes a new table, clearing the stale flag first so a change committed meanwhile triggers another refresh
+     * Must be called while holding the write lock
+     */
+    private HomeNeighbours build() {
+        stale = false;
+        long start = System.nanoTime();
+        HomeNeighbours built = HomeNeighbours.of(homeRepository.findAllSimilarityFeatures(), neighbourCount);
+        logger.info("Computed {} nearest neighbours of {} homes in {} ms", neighbourCount, built.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ci_dominguez.ade_backend.ingestion;
+
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.repository.ContactMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write-behind queue for contact message submissions
+ * Each batch is saved in one transaction; with the pooled sequence on ContactMessage and
+ * hibernate.jdbc.batch_size the inserts are sent to PostgreSQL as a single JDBC batch
+ */
+@Component
+public class ContactMessageWriteBehindQueue extends WriteBehindQueue<ContactMessage> {
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ContactMessageWriteBehindQueue(ContactMessageRepository contactMessageRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${ade.ingestion.contact-messages.capacity:1000}") int capacity,
+                                          @Value("${ade.ingestion.contact-messages.batch-size:50}") int batchSize,
+                                          @Value("${ade.ingestion.contact-messages.max-delay-ms:200}") long maxDelayMillis) {
+        super("contact-messages", capacity, batchSize, maxDelayMillis);
+        this.contactMessageRepository = contactMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    protected void writeBatch(List<ContactMessage> batch) {
+        transactionTemplate.executeWithoutResult(status -> contactMessageRepository.saveAll(batch));
+    }
+
+    @Override
+    protected void resetForRetry(ContactMessage message) {
+        message.setId(null);
+        //Otherwise the retried INSERT looks like an unchanged status and is never counted
+        message.setPersistedStatus(null);
+    }
+
+    @Override
+    protected UUID trackingIdOf(ContactMessage message) {
+        return message.getTrackingId();
+    }
+}
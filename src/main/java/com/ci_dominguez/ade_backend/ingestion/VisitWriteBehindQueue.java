@@ -0,0 +1,61 @@
+package com.ci_dominguez.ade_backend.ingestion;
+
+import com.ci_dominguez.ade_backend.model.Visits;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import com.ci_dominguez.ade_backend.repository.VisitsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write-behind queue for visit requests
+ * The home of each visit is attached as a reference proxy, so a batch issues only the visit INSERTs
+ * and an unknown home id surfaces as a foreign key violation for that single row
+ */
+@Component
+public class VisitWriteBehindQueue extends WriteBehindQueue<Visits> {
+
+    private final VisitsRepository visitsRepository;
+
+    private final HomeRepository homeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public VisitWriteBehindQueue(VisitsRepository visitsRepository,
+                                 HomeRepository homeRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${ade.ingestion.visits.capacity:1000}") int capacity,
+                                 @Value("${ade.ingestion.visits.batch-size:50}") int batchSize,
+                                 @Value("${ade.ingestion.visits.max-delay-ms:200}") long maxDelayMillis) {
+        super("visits", capacity, batchSize, maxDelayMillis);
+        this.visitsRepository = visitsRepository;
+        this.homeRepository = homeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    protected void writeBatch(List<Visits> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Visits visit : batch) {
+                visit.setHome(homeRepository.getReferenceById(visit.getHome().getId()));
+            }
+            visitsRepository.saveAll(batch);
+        });
+    }
+
+    @Override
+    protected void resetForRetry(Visits visit) {
+        visit.setId(null);
+        //Otherwise the retried INSERT looks like an unchanged status and is never counted
+        visit.setPersistedStatus(null);
+    }
+
+    @Override
+    protected UUID trackingIdOf(Visits visit) {
+        return visit.getTrackingId();
+    }
+}
@@ -0,0 +1,262 @@
+package com.ci_dominguez.ade_backend.ingestion;
+
+import com.ci_dominguez.ade_backend.dto.DroppedSubmissionDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.NonTransientDataAccessException;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process queue drained by a single writer thread in batches
+ * Request threads only enqueue; the writer persists whatever has accumulated in one transaction,
+ * so a burst of submissions turns into a few batched INSERTs instead of one commit each
+ *
+ * @param <T> The type of the queued items
+ */
+public abstract class WriteBehindQueue<T> implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    //Stopped after the web server (which stops at DEFAULT_PHASE - 2048), so no request can enqueue while draining
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    //Most recent dropped submissions kept for operators, older ones only remain in the failed counter
+    private static final int MAX_DROPPED_KEPT = 1000;
+
+    /////////////////////Instance Variables/////////////////////
+    private final String name;
+
+    private final int batchSize;
+
+    private final long maxDelayMillis;
+
+    private final BlockingQueue<T> queue;
+
+    private final LongAdder accepted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    //Guarded by itself, newest last
+    private final Deque<DroppedSubmissionDTO> dropped = new ArrayDeque<>();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    protected WriteBehindQueue(String name, int capacity, int batchSize, long maxDelayMillis) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Enqueues an item without blocking
+     *
+     * @param item The item to persist
+     * @return true if the item was accepted, false if the queue is full or shutting down
+     */
+    public boolean offer(T item) {
+        if (running && queue.offer(item)) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Persists one batch of items, called only from the writer thread
+     *
+     * @param batch The items to persist, never empty
+     */
+    protected abstract void writeBatch(List<T> batch);
+
+    /**
+     * Undoes what a failed write left on an item, so writing it again is a plain INSERT
+     * A rolled back transaction keeps the ids Hibernate assigned, and an item with an id is merged instead of persisted
+     *
+     * @param item The item about to be written again
+     */
+    protected abstract void resetForRetry(T item);
+
+    /**
+     * Identifies an item in logs and in the dropped list without exposing what was submitted
+     *
+     * @param item The queued item
+     * @return The tracking id handed back to the submitter
+     */
+    protected abstract UUID trackingIdOf(T item);
+
+    /**
+     * Returns the most recently dropped submissions, oldest first
+     *
+     * @return Up to MAX_DROPPED_KEPT submissions that could not be written
+     */
+    public List<DroppedSubmissionDTO> getDropped() {
+        synchronized (dropped) {
+            return List.copyOf(dropped);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, name + "-writer");
+        writer.start();
+    }
+
+    /**
+     * Stops accepting items and blocks until everything already accepted has been written
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("{} drained: {} written, {} failed", name, written.sum(), failed.sum());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Takes items off the queue until it has been stopped and emptied
+     * Waits at most maxDelayMillis for the first item, then takes whatever else is already queued
+     */
+    private void drainLoop() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("{} writer interrupted with {} items queued", name, queue.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, retrying transient failures and isolating items that keep failing
+     * A non-transient failure such as a constraint violation would fail the same way again, so the batch goes
+     * straight to item-by-item writes
+     */
+    private void flush(List<T> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_BATCH_ATTEMPTS; attempt++) {
+            try {
+                writeBatch(batch);
+                written.add(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                //Exception type only, constraint violation messages quote the failing row
+                logger.warn("{} failed to write batch of {} (attempt {}): {}", name, batch.size(), attempt,
+                        e.getClass().getSimpleName());
+                batch.forEach(this::resetForRetry);
+                if (e instanceof NonTransientDataAccessException) {
+                    break;
+                }
+                if (attempt < MAX_BATCH_ATTEMPTS) {
+                    Thread.sleep(200L * attempt);
+                }
+            }
+        }
+        //Write items one by one so a single bad row doesn't take the rest of the batch with it
+        for (T item : batch) {
+            try {
+                writeBatch(List.of(item));
+                written.increment();
+            } catch (RuntimeException e) {
+                drop(item, e);
+            }
+        }
+    }
+
+    /**
+     * Counts and records an item that could not be written
+     * Only the tracking id and exception type are logged, the item and the failing row hold the submitter's
+     * contact details
+     */
+    private void drop(T item, RuntimeException e) {
+        failed.increment();
+        UUID trackingId = trackingIdOf(item);
+        logger.error("{} dropped submission {} after repeated failures: {}", name, trackingId,
+                e.getClass().getSimpleName());
+        synchronized (dropped) {
+            if (dropped.size() == MAX_DROPPED_KEPT) {
+                dropped.removeFirst();
+            }
+            dropped.addLast(new DroppedSubmissionDTO(name, trackingId, Instant.now(), e.getClass().getSimpleName()));
+        }
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return queue.size();
+    }
+
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+}
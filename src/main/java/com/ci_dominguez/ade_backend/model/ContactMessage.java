@@ -1,21 +1,36 @@
 package com.ci_dominguez.ade_backend.model;
 
+import com.ci_dominguez.ade_backend.counter.StatusCountListener;
 import com.ci_dominguez.ade_backend.model.enums.MessageStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name="contactMessages")
+@EntityListeners(StatusCountListener.class)
+//The inbox lists one status newest first; id breaks ties so keyset pagination can seek on the index
+@Table(name="contactMessages", indexes = {
+        @Index(name = "idx_contact_messages_status_created_at", columnList = "status, createdAt, id")
+})
 public class ContactMessage {
     /////////////////////Instance Variables/////////////////////
+    //Pooled sequence instead of IDENTITY so Hibernate knows ids before INSERT and can batch them
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_messages_seq")
+    @SequenceGenerator(name = "contact_messages_seq", sequenceName = "contact_messages_seq", allocationSize = 50)
     private Long id;
 
+    //Handed back to the submitter when the message is accepted for asynchronous persistence
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(unique = true, updatable = false)
+    private UUID trackingId;
+
     @NotBlank(message = "Full name is required")
     @Size(max = 100, message = "Full name must be less than 100 characters")
     private String name;
@@ -40,6 +55,11 @@ public class ContactMessage {
     @Enumerated(EnumType.STRING)
     private MessageStatus status;
 
+    //Status as last read from or written to the database, so StatusCountListener can tell a transition apart
+    @Transient
+    @JsonIgnore
+    private MessageStatus persistedStatus;
+
     @Column(nullable = true)
     private String updatedBy;
 
@@ -72,6 +92,21 @@ public class ContactMessage {
     }
 
 
+    /**
+     * Creates a string representing the ContactMessage object
+     * Purpose: Logging and debugging, omits the submitter's personal data
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "ContactMessage{" +
+                "id=" + id +
+                ", trackingId=" + trackingId +
+                ", status=" + status +
+                '}';
+    }
+
     /////////////////////Getters & Setters/////////////////////
     public Long getId() {
         return id;
@@ -81,6 +116,14 @@ public class ContactMessage {
         this.id = id;
     }
 
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(UUID trackingId) {
+        this.trackingId = trackingId;
+    }
+
     public String getName() {
         return name;
     }
@@ -129,6 +172,14 @@ public class ContactMessage {
         this.status = status;
     }
 
+    public MessageStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public void setPersistedStatus(MessageStatus persistedStatus) {
+        this.persistedStatus = persistedStatus;
+    }
+
     public String getUpdatedBy() {
         return updatedBy;
     }
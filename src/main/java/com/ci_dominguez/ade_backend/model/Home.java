@@ -1,12 +1,24 @@
 package com.ci_dominguez.ade_backend.model;
 
+import com.ci_dominguez.ade_backend.event.HomeChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="homes")
+@Table(name="homes", indexes = {
+        @Index(name = "idx_homes_cost_id", columnList = "cost, id"),
+        @Index(name = "idx_homes_bedrooms_id", columnList = "bedrooms, id"),
+        @Index(name = "idx_homes_bathrooms_id", columnList = "bathrooms, id"),
+        @Index(name = "idx_homes_year_built", columnList = "yearBuilt")
+})
+@EntityListeners(HomeChangeListener.class)
+//Read far more often than written, Hibernate updates the cached entry on every write made through JPA
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "home")
 public class Home {
 
     /////////////////////Instance Variables/////////////////////
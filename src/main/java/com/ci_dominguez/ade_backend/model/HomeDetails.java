@@ -1,6 +1,9 @@
 package com.ci_dominguez.ade_backend.model;
 
+import com.ci_dominguez.ade_backend.event.HomeChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -9,6 +12,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "homeDetails")
+@EntityListeners(HomeChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "homeDetails")
 public class HomeDetails {
 
     /////////////////////Instance Variables/////////////////////
@@ -16,7 +22,7 @@ public class HomeDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "homeId", referencedColumnName = "id")
     private Home home;
 
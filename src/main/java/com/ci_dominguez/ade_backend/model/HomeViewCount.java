@@ -0,0 +1,63 @@
+package com.ci_dominguez.ade_backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of times a home's details page has been viewed
+ * Only written by HomeViewCounter's periodic flush, never on the request path
+ */
+@Entity
+@Table(name="homeViewCounts")
+public class HomeViewCount {
+    /////////////////////Instance Variables/////////////////////
+    @Id
+    private Long homeId;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Creates a string representing the HomeViewCount object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "HomeViewCount{" +
+                "homeId=" + homeId +
+                ", views=" + views +
+                '}';
+    }
+
+    /////////////////////Getters & Setters/////////////////////
+    public Long getHomeId() {
+        return homeId;
+    }
+
+    public void setHomeId(Long homeId) {
+        this.homeId = homeId;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
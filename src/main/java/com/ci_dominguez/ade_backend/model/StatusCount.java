@@ -0,0 +1,105 @@
+package com.ci_dominguez.ade_backend.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * One row per (kind, status) holding how many contact messages or visits currently have that status
+ * Shared by every node, which add their deltas to it and read it back, see StatusCounts
+ */
+@Entity
+@Table(name="statusCounts")
+@IdClass(StatusCount.Key.class)
+public class StatusCount {
+    /////////////////////Instance Variables/////////////////////
+    @Id
+    @Column(length = 32)
+    private String kind;
+
+    @Id
+    @Column(length = 32)
+    private String status;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Creates a string representing the StatusCount object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "StatusCount{" +
+                "kind='" + kind + '\'' +
+                ", status='" + status + '\'' +
+                ", total=" + total +
+                '}';
+    }
+
+    /////////////////////Getters & Setters/////////////////////
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /////////////////////Primary Key/////////////////////
+    public static class Key implements Serializable {
+        private String kind;
+
+        private String status;
+
+        public Key() {
+        }
+
+        public Key(String kind, String status) {
+            this.kind = kind;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Objects.equals(kind, key.kind) && Objects.equals(status, key.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, status);
+        }
+    }
+}
@@ -1,23 +1,41 @@
 package com.ci_dominguez.ade_backend.model;
 
+import com.ci_dominguez.ade_backend.counter.StatusCountListener;
 import com.ci_dominguez.ade_backend.model.enums.VisitStatus;
 import com.ci_dominguez.ade_backend.model.enums.VisitType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name="visits")
+@EntityListeners(StatusCountListener.class)
+//The inbox lists one status newest first; id breaks ties so keyset pagination can seek on the index
+@Table(name="visits", indexes = {
+        @Index(name = "idx_visits_status_created_at", columnList = "status, createdAt, id")
+})
 public class Visits {
     /////////////////////Instance Variables/////////////////////
+    //Pooled sequence instead of IDENTITY so Hibernate knows ids before INSERT and can batch them
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "visits_seq")
+    @SequenceGenerator(name = "visits_seq", sequenceName = "visits_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    //Handed back to the submitter when the request is accepted for asynchronous persistence
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(unique = true, updatable = false)
+    private UUID trackingId;
+
+    //Lazy so saving a visit only needs the home's id, never the Home row itself
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "homeId", referencedColumnName = "id")
+    @JsonIgnoreProperties({"homeDetails", "hibernateLazyInitializer", "handler"})
     private Home home;
 
     @NotBlank(message = "Full name is required")
@@ -49,6 +67,11 @@ public class Visits {
     @Enumerated(EnumType.STRING)
     private VisitStatus status;
 
+    //Status as last read from or written to the database, so StatusCountListener can tell a transition apart
+    @Transient
+    @JsonIgnore
+    private VisitStatus persistedStatus;
+
     //Change this to a relation to user entity once made instead of string
     @Column(nullable = true)
     private String agentId;
@@ -71,11 +94,15 @@ public class Visits {
      * Initializes entity metadata:
      *  - 'createdAt' to the current date and time
      *  - 'updatedAt' to the current date and time
+     *  - 'status' to VisitStatus.REQUESTED unless one was given
      */
     @PrePersist
     protected void onCreate(){
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = VisitStatus.REQUESTED;
+        }
     }
 
     /**
@@ -88,6 +115,21 @@ public class Visits {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Creates a string representing the Visits object
+     * Purpose: Logging and debugging, omits the visitor's personal data
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "Visits{" +
+                "id=" + id +
+                ", trackingId=" + trackingId +
+                ", status=" + status +
+                '}';
+    }
+
     /////////////////////Getters & Setters/////////////////////
 
     public Long getId() {
@@ -98,6 +140,14 @@ public class Visits {
         this.id = id;
     }
 
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(UUID trackingId) {
+        this.trackingId = trackingId;
+    }
+
     public Home getHome() {
         return home;
     }
@@ -162,6 +212,14 @@ public class Visits {
         this.status = status;
     }
 
+    public VisitStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public void setPersistedStatus(VisitStatus persistedStatus) {
+        this.persistedStatus = persistedStatus;
+    }
+
     public String getAgentId() {
         return agentId;
     }
@@ -0,0 +1,38 @@
+package com.ci_dominguez.ade_backend.model.enums;
+
+public enum ContactMessageSortKey {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    NAME("name"),
+    STATUS("status"),
+    ID("id");
+
+    private final String attribute;
+
+    ContactMessageSortKey(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Resolves the sortBy request parameter of the contact message inbox to a sort key
+     * Only whitelisted attributes can be sorted by; a missing value means newest first by createdAt
+     *
+     * @param sortBy The sortBy request parameter, may be null
+     * @return The matching ContactMessageSortKey, or null if the attribute may not be sorted by
+     */
+    public static ContactMessageSortKey fromParam(String sortBy) {
+        if (sortBy == null) {
+            return CREATED_AT;
+        }
+        for (ContactMessageSortKey key : values()) {
+            if (key.attribute.equalsIgnoreCase(sortBy)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ci_dominguez.ade_backend.model.enums;
+
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String param;
+
+    private final String contentType;
+
+    ExportFormat(String param, String contentType) {
+        this.param = param;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Resolves the format request parameter of an export
+     * A missing value means NDJSON
+     *
+     * @param format The format request parameter, may be null
+     * @return The matching ExportFormat, or null if the value is not a known format
+     */
+    public static ExportFormat fromParam(String format) {
+        if (format == null) {
+            return NDJSON;
+        }
+        for (ExportFormat value : values()) {
+            if (value.param.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
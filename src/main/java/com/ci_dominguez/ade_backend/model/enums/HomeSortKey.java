@@ -0,0 +1,49 @@
+package com.ci_dominguez.ade_backend.model.enums;
+
+public enum HomeSortKey {
+    ID("id"),
+    COST("cost"),
+    BEDROOMS("bedrooms"),
+    BATHROOMS("bathrooms"),
+    RELEVANCE("relevance");
+
+    private final String attribute;
+
+    HomeSortKey(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Resolves the sortBy request parameter of a filtered listing to a sort key
+     * Filtered listings without an explicit sortBy are ranked by address relevance
+     *
+     * @param sortBy The sortBy request parameter, may be null
+     * @param filter The address filter, may be null
+     * @return The matching HomeSortKey
+     */
+    public static HomeSortKey fromParam(String sortBy, String filter) {
+        return sortBy == null && filter != null ? RELEVANCE : fromParam(sortBy);
+    }
+
+    /**
+     * Resolves the sortBy request parameter to a sort key
+     * Unknown or missing values fall back to ID, matching the listing's historical default
+     *
+     * @param sortBy The sortBy request parameter, may be null
+     * @return The matching HomeSortKey
+     */
+    public static HomeSortKey fromParam(String sortBy) {
+        if (sortBy != null) {
+            for (HomeSortKey key : values()) {
+                if (key.attribute.equalsIgnoreCase(sortBy)) {
+                    return key;
+                }
+            }
+        }
+        return ID;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
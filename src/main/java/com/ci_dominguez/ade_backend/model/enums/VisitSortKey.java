@@ -0,0 +1,38 @@
+package com.ci_dominguez.ade_backend.model.enums;
+
+public enum VisitSortKey {
+    CREATED_AT("createdAt"),
+    REQUESTED_DATE("requestedDate"),
+    SCHEDULED_DATE("scheduledDate"),
+    STATUS("status"),
+    ID("id");
+
+    private final String attribute;
+
+    VisitSortKey(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Resolves the sortBy request parameter of the visit inbox to a sort key
+     * Only whitelisted attributes can be sorted by; a missing value means newest first by createdAt
+     *
+     * @param sortBy The sortBy request parameter, may be null
+     * @return The matching VisitSortKey, or null if the attribute may not be sorted by
+     */
+    public static VisitSortKey fromParam(String sortBy) {
+        if (sortBy == null) {
+            return CREATED_AT;
+        }
+        for (VisitSortKey key : values()) {
+            if (key.attribute.equalsIgnoreCase(sortBy)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ci_dominguez.ade_backend.monitoring;
+
+import com.ci_dominguez.ade_backend.cache.HomeCardCache;
+import com.ci_dominguez.ade_backend.cache.HomeDetailsSnapshotStore;
+import com.ci_dominguez.ade_backend.counter.HomeViewCounter;
+import com.ci_dominguez.ade_backend.datasource.GatedDataSource;
+import com.ci_dominguez.ade_backend.datasource.QueryStatistics;
+import com.ci_dominguez.ade_backend.ingestion.WriteBehindQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Publishes the application's own caches, write-behind queues, connection gate and view counters as meters
+ * Endpoint, repository, Hibernate and Hikari meters come from Spring Boot's auto-configuration;
+ * this only covers the components it cannot see
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    /////////////////////Instance Variables/////////////////////
+    private final HomeCardCache homeCardCache;
+
+    private final HomeDetailsSnapshotStore homeDetailsSnapshotStore;
+
+    private final List<WriteBehindQueue<?>> writeBehindQueues;
+
+    private final DataSource dataSource;
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    private final QueryStatistics queryStatistics;
+
+    private final HomeViewCounter homeViewCounter;
+
+    public ApplicationMetrics(HomeCardCache homeCardCache, HomeDetailsSnapshotStore homeDetailsSnapshotStore,
+                              List<WriteBehindQueue<?>> writeBehindQueues, DataSource dataSource,
+                              VirtualThreadPinningMonitor pinningMonitor, QueryStatistics queryStatistics,
+                              HomeViewCounter homeViewCounter) {
+        this.homeCardCache = homeCardCache;
+        this.homeDetailsSnapshotStore = homeDetailsSnapshotStore;
+        this.writeBehindQueues = writeBehindQueues;
+        this.dataSource = dataSource;
+        this.pinningMonitor = pinningMonitor;
+        this.queryStatistics = queryStatistics;
+        this.homeViewCounter = homeViewCounter;
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ade.cache.requests", homeCardCache, cache -> cache.getStats().getHits())
+                .tags("cache", "homeCards", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("ade.cache.requests", homeCardCache, cache -> cache.getStats().getMisses())
+                .tags("cache", "homeCards", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("ade.cache.evictions", homeCardCache, cache -> cache.getStats().getEvictions())
+                .tag("cache", "homeCards")
+                .register(registry);
+        Gauge.builder("ade.cache.size", homeCardCache, cache -> cache.getStats().getSize())
+                .tag("cache", "homeCards")
+                .register(registry);
+        Gauge.builder("ade.cache.size", homeDetailsSnapshotStore, HomeDetailsSnapshotStore::getSize)
+                .tag("cache", "homeDetailsSnapshots")
+                .register(registry);
+
+        for (WriteBehindQueue<?> queue : writeBehindQueues) {
+            Gauge.builder("ade.ingestion.queue.size", queue, WriteBehindQueue::getSize)
+                    .tag("queue", queue.getName())
+                    .register(registry);
+            FunctionCounter.builder("ade.ingestion.items", queue, WriteBehindQueue::getAccepted)
+                    .tags("queue", queue.getName(), "outcome", "accepted")
+                    .register(registry);
+            FunctionCounter.builder("ade.ingestion.items", queue, WriteBehindQueue::getRejected)
+                    .tags("queue", queue.getName(), "outcome", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("ade.ingestion.items", queue, WriteBehindQueue::getWritten)
+                    .tags("queue", queue.getName(), "outcome", "written")
+                    .register(registry);
+            FunctionCounter.builder("ade.ingestion.items", queue, WriteBehindQueue::getFailed)
+                    .tags("queue", queue.getName(), "outcome", "failed")
+                    .register(registry);
+        }
+
+        GatedDataSource gate = unwrapGate();
+        if (gate != null) {
+            Gauge.builder("ade.datasource.gate.permits.available", gate, GatedDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder("ade.datasource.gate.waiting", gate, GatedDataSource::getWaitingThreads)
+                    .register(registry);
+            FunctionCounter.builder("ade.datasource.gate.timeouts", gate, GatedDataSource::getTimeouts)
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("ade.virtual_threads.pinned", pinningMonitor, VirtualThreadPinningMonitor::getPinnedEvents)
+                .register(registry);
+        FunctionCounter.builder("ade.sql.slow_queries", queryStatistics, QueryStatistics::getSlowQueries)
+                .register(registry);
+
+        Gauge.builder("ade.home_views.pending", homeViewCounter, HomeViewCounter::getPendingViews)
+                .register(registry);
+        FunctionCounter.builder("ade.home_views.flushed", homeViewCounter, HomeViewCounter::getFlushedViews)
+                .register(registry);
+    }
+
+    /**
+     * Finds the connection gate among the DataSource wrappers, if it is enabled
+     */
+    private GatedDataSource unwrapGate() {
+        try {
+            return dataSource.isWrapperFor(GatedDataSource.class) ? dataSource.unwrap(GatedDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ci_dominguez.ade_backend.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs every virtual thread that stays pinned to its carrier for longer than a threshold
+ * Pinning happens when a virtual thread blocks inside a synchronized block or a native frame; while
+ * pinned it holds a carrier thread, so a few of them on the request path can stall every request
+ * Listens to the JDK's own jdk.VirtualThreadPinned flight recorder event, so it costs nothing until a pin occurs
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_LOGGED_FRAMES = 20;
+
+    /////////////////////Instance Variables/////////////////////
+    private final boolean enabled;
+
+    private final Duration threshold;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${ade.virtual-threads.pinning-diagnostics.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${ade.virtual-threads.pinning-diagnostics.threshold-ms:20}") long thresholdMillis) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    /////////////////////Methods/////////////////////
+    @Override
+    public void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        logger.info("Logging virtual threads pinned for longer than {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        RecordedThread thread = event.getThread();
+        StringBuilder message = new StringBuilder("Virtual thread ")
+                .append(thread != null ? thread.getJavaName() : "?")
+                .append(" pinned its carrier for ").append(event.getDuration().toMillis()).append("ms");
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> frames = stackTrace.getFrames();
+            for (int i = 0; i < Math.min(frames.size(), MAX_LOGGED_FRAMES); i++) {
+                RecordedFrame frame = frames.get(i);
+                message.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+        }
+        logger.warn(message.toString());
+    }
+
+    /////////////////////Getters/////////////////////
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+}
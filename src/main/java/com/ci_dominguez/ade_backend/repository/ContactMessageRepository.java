@@ -2,10 +2,19 @@ package com.ci_dominguez.ade_backend.repository;
 
 import com.ci_dominguez.ade_backend.model.ContactMessage;
 import com.ci_dominguez.ade_backend.model.enums.MessageStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
     /////////////////////Repository Methods/////////////////////
@@ -25,6 +34,15 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
      */
     Integer countByStatus(MessageStatus status);
 
+    /**
+     * Counts ContactMessage entities per status in a single scan
+     * Used to reconcile the incrementally maintained status counters, not on the request path
+     *
+     * @return One [MessageStatus, Long] row per status that has at least one message
+     */
+    @Query("SELECT c.status, COUNT(c) FROM ContactMessage c GROUP BY c.status")
+    List<Object[]> countGroupedByStatus();
+
     /**
      * Finds ContactMessage entities created between the specified start and end dates
      *
@@ -41,4 +59,61 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
      * @return A List of ContactMessage entities with names containing the specified string
      */
     List<ContactMessage> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Retrieves a page of ContactMessage entities with the specified status
+     *
+     * @param status The MessageStatus to filter by
+     * @param pageable The requested page and sort
+     * @return A Page of ContactMessage entities matching the given status
+     */
+    Page<ContactMessage> findByStatus(MessageStatus status, Pageable pageable);
+
+    /**
+     * Retrieves a page of ContactMessage entities created between the specified start and end dates
+     *
+     * @param start The start date and time
+     * @param end The end date and time
+     * @param pageable The requested page and sort
+     * @return A Page of ContactMessage entities created within the specified date range
+     */
+    Page<ContactMessage> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    /**
+     * Retrieves the newest ContactMessage entities with the specified status
+     * Served by a range scan of idx_contact_messages_status_created_at
+     *
+     * @param status The MessageStatus to list
+     * @param limit The maximum number of entities to return
+     * @return A List of ContactMessage entities ordered by createdAt and id, newest first
+     */
+    @Query("SELECT c FROM ContactMessage c WHERE c.status = :status ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactMessage> findInbox(@Param("status") MessageStatus status, Limit limit);
+
+    /**
+     * Retrieves the ContactMessage entities with the specified status that come after a given entry in inbox order
+     * Seeks on the (createdAt, id) pair, so the cost does not grow with how far the agent has scrolled
+     *
+     * @param status The MessageStatus to list
+     * @param createdAt The createdAt of the last entry already returned
+     * @param id The id of the last entry already returned
+     * @param limit The maximum number of entities to return
+     * @return A List of ContactMessage entities ordered by createdAt and id, newest first
+     */
+    @Query("SELECT c FROM ContactMessage c WHERE c.status = :status AND (c.createdAt, c.id) < (:createdAt, :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactMessage> findInboxAfter(@Param("status") MessageStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
+
+    /**
+     * Streams every ContactMessage in id order, fetching rows from the database in chunks
+     * Must be consumed and closed inside a transaction; entities stay managed until detached
+     *
+     * @return A Stream over all ContactMessage entities
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ContactMessage> streamAllByOrderByIdAsc();
 }
@@ -1,57 +1,72 @@
 package com.ci_dominguez.ade_backend.repository;
 
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
 import com.ci_dominguez.ade_backend.model.Home;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 
-public interface HomeRepository extends JpaRepository<Home, Long> {
+public interface HomeRepository extends JpaRepository<Home, Long>, HomeRepositoryCustom {
+    //Constructor expression selecting only the card columns of an alias "h"
+    String HOME_CARD = "new com.ci_dominguez.ade_backend.dto.HomeCardDTO(h.id, h.address, h.cost, h.bedrooms, " +
+            "h.bathrooms, h.lotSize, h.mainImgUrl, h.livableAreaSize, h.overview, h.yearBuilt)";
+
+    //Query cache region of the lookups by id, sized in ehcache.xml; any write to homes invalidates its entries
+    String QUERY_CACHE_REGION = "homeQueries";
+
     /////////////////////Repository Methods/////////////////////
     /**
-     * Retrieves a paginated list of Home entities with optional filtering and sorting
+     * Retrieves a Home together with its HomeDetails in a single round-trip
+     * The text[] and jsonb columns live on the homeDetails row, so the fetch join loads them as well
+     *
+     * @param id The ID of the home to retrieve
+     * @return An Optional containing the Home with its HomeDetails initialized, or empty if not found
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT h FROM Home h LEFT JOIN FETCH h.homeDetails WHERE h.id = :id")
+    Optional<Home> findWithDetailsById(@Param("id") Long id);
+
+    /**
+     * Retrieves the card of every home, used to build the in-memory HomeCatalogIndex
+     * Not cached: the periodic rebuild exists to pick up rows written outside JPA, which a cached result would hide
      *
-     * @param filter Optional string to filter homes by address
-     * @param sortBy Optional string to specify the sorting field
-     * @param pageable Pageable object for pagination
-     * @return A Page of Home entities matching the given criteria
+     * @return A List of HomeCardDTO objects, one per home
      */
-    @Query("SELECT h FROM Home h WHERE (:filter IS NULL OR h.address LIKE %:filter%) " +
-            "ORDER BY CASE " +
-            "WHEN :sortBy = 'cost' THEN h.cost " +
-            "WHEN :sortBy = 'bedrooms' THEN h.bedrooms " +
-            "WHEN :sortBy = 'bathrooms' THEN h.bathrooms " +
-            "ELSE h.id END")
-    Page<Home> findHomesWithFilterAndSort(@Param("filter") String filter,
-                                          @Param("sortBy") String sortBy,
-                                          Pageable pageable);
+    @Query("SELECT " + HOME_CARD + " FROM Home h")
+    List<HomeCardDTO> findAllHomeCards();
 
     /**
-     * Retrieves a list of Home entities within a specified cost range
+     * Retrieves the attributes compared by the similar homes index, used to build SimilarHomesIndex
+     * Not cached for the same reason as findAllHomeCards
      *
-     * @param minCost The minimum cost of homes to retrieve
-     * @param maxCost The maximum cost of homes to retrieve
-     * @return A List of Home entities within the specified cost range
+     * @return One [id, cost, bedrooms, bathrooms, livableAreaSize, yearBuilt, homeType] row per home
      */
-    @Query("SELECT h FROM Home h WHERE h.cost BETWEEN :minCost AND :maxCost")
-    List<Home> findHomesByCostRange(@Param("minCost") BigDecimal minCost,
-                                    @Param("maxCost") BigDecimal maxCost);
+    @Query("SELECT h.id, h.cost, h.bedrooms, h.bathrooms, h.livableAreaSize, h.yearBuilt, h.homeType FROM Home h")
+    List<Object[]> findAllSimilarityFeatures();
 
     /**
-     * Retrieves a list of Home entities with at least the specified number of bedrooms and bathrooms
+     * Retrieves the card of a single home, used to patch the HomeCatalogIndex after it changed
      *
-     * @param minBedrooms The minimum number of bedrooms
-     * @param minBathrooms The minimum number of bathrooms
-     * @return A List of Home entities meeting the bedroom and bathroom criteria
+     * @param id The ID of the home
+     * @return An Optional containing the HomeCardDTO, or empty if the home no longer exists
      */
-    @Query("SELECT h FROM Home h WHERE h.bedrooms >= :minBedrooms AND h.bathrooms >= :minBathrooms")
-    List<Home> findHomesByMinBedroomsAndBathrooms(@Param("minBedrooms") BigDecimal minBedrooms,
-                                                  @Param("minBathrooms") BigDecimal minBathrooms);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT " + HOME_CARD + " FROM Home h WHERE h.id = :id")
+    Optional<HomeCardDTO> findHomeCardById(@Param("id") Long id);
 
     /**
      * Retrieves a list of the most recently added Home entities
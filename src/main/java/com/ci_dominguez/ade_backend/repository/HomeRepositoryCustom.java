@@ -0,0 +1,55 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Home queries that are assembled at runtime instead of declared with @Query
+ * Listing queries project straight into HomeCardDTO instead of loading Home entities
+ */
+public interface HomeRepositoryCustom {
+    /////////////////////Repository Methods/////////////////////
+    /**
+     * Retrieves a paginated list of home cards with optional filtering and sorting
+     * Orders by a plain column (then id) so the matching (column, id) index can serve the
+     * ORDER BY and stop reading at the page limit; any Sort carried by the pageable is ignored
+     *
+     * @param filter Optional string to filter homes by address
+     * @param sortKey The column to order by
+     * @param pageable Pageable object for pagination
+     * @return A Page of HomeCardDTO objects matching the given criteria
+     */
+    Page<HomeCardDTO> findHomesWithFilterAndSort(String filter, HomeSortKey sortKey, Pageable pageable);
+
+    /**
+     * Retrieves the next slice of homes after a given position using a seek predicate instead of OFFSET
+     * Rows are ordered by the sort key (nulls last) and then by id, so (lastValue, lastId) uniquely
+     * identifies the position of the last row the client has already seen
+     *
+     * @param filter Optional string to filter homes by address
+     * @param sortKey The column to order by
+     * @param lastValue The sort key value of the last row already returned, null if that row had none
+     * @param lastId The id of the last row already returned, or null for the first slice
+     * @param limit The maximum number of homes to return
+     * @return A List of at most limit HomeCardDTO objects following the given position
+     */
+    List<HomeCardDTO> findHomesAfter(String filter, HomeSortKey sortKey, BigDecimal lastValue, Long lastId, int limit);
+
+    /**
+     * Retrieves a page of home cards matching every condition present in the criteria
+     * Absent conditions add no predicate at all, so each combination gets its own plan and can use the
+     * trigram, cost, bedrooms or bathrooms index instead of a catch-all "(:x IS NULL OR ...)" query
+     *
+     * @param criteria The search conditions
+     * @param sortKey The column to order by
+     * @param pageable The requested page, must be paged
+     * @return A Page of HomeCardDTO objects matching the criteria
+     */
+    Page<HomeCardDTO> searchHomes(HomeSearchCriteria criteria, HomeSortKey sortKey, Pageable pageable);
+}
@@ -0,0 +1,277 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria-based implementation of HomeRepositoryCustom
+ * Picked up by Spring Data through the "Impl" suffix and merged into HomeRepository
+ * None of these queries use the query cache: their parameters are free user input, which would crowd the id
+ * lookups out of the homeQueries region, and the listing is already cached per page by HomeCardCache
+ */
+class HomeRepositoryImpl implements HomeRepositoryCustom {
+    private static final Logger logger = LoggerFactory.getLogger(HomeRepositoryImpl.class);
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    //Bound rather than inlined, so every filter value shares one SQL text and one cached plan
+    private static final String RELEVANCE_FILTER = "relevanceFilter";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    //Whether pg_trgm is installed, see db/extensions.sql; null until checked
+    private volatile Boolean trigramAvailable;
+
+    /////////////////////Repository Methods/////////////////////
+    @Override
+    public Page<HomeCardDTO> findHomesWithFilterAndSort(String filter, HomeSortKey sortKey, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<HomeCardDTO> query = cb.createQuery(HomeCardDTO.class);
+        Root<Home> home = query.from(Home.class);
+        query.select(homeCard(cb, home))
+                .where(filterPredicates(cb, home, filter).toArray(Predicate[]::new))
+                .orderBy(orderFor(cb, home, sortKey, filter));
+
+        TypedQuery<HomeCardDTO> contentQuery = bindRelevanceFilter(entityManager.createQuery(query), sortKey, filter);
+        if (pageable.isPaged()) {
+            contentQuery.setFirstResult((int) pageable.getOffset());
+            contentQuery.setMaxResults(pageable.getPageSize());
+        }
+        //The count query only runs when the page size and content don't already determine the total
+        return PageableExecutionUtils.getPage(contentQuery.getResultList(), pageable, () -> countHomes(filter));
+    }
+
+    @Override
+    public List<HomeCardDTO> findHomesAfter(String filter, HomeSortKey sortKey, BigDecimal lastValue, Long lastId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<HomeCardDTO> query = cb.createQuery(HomeCardDTO.class);
+        Root<Home> home = query.from(Home.class);
+
+        List<Predicate> predicates = filterPredicates(cb, home, filter);
+        if (lastId != null) {
+            predicates.add(seekPredicate(cb, home, sortKey, lastValue, lastId));
+        }
+
+        query.select(homeCard(cb, home))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderFor(cb, home, sortKey, filter));
+        return bindRelevanceFilter(entityManager.createQuery(query), sortKey, filter)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<HomeCardDTO> searchHomes(HomeSearchCriteria criteria, HomeSortKey sortKey, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<HomeCardDTO> query = cb.createQuery(HomeCardDTO.class);
+        Root<Home> home = query.from(Home.class);
+        query.select(homeCard(cb, home))
+                .where(searchPredicates(cb, home, criteria).toArray(Predicate[]::new))
+                .orderBy(orderFor(cb, home, sortKey, criteria.getAddress()));
+
+        List<HomeCardDTO> content = bindRelevanceFilter(entityManager.createQuery(query), sortKey, criteria.getAddress())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSearchResults(criteria));
+    }
+
+    /**
+     * Checks once, when the application is ready, whether relevance ranking can be offered
+     * Without pg_trgm word_similarity() does not exist and relevance falls back to id order
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkTrigramSupport() {
+        trigramAvailable();
+    }
+
+    /////////////////////Helpers/////////////////////
+    private boolean trigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available == null) {
+            available = (Boolean) entityManager
+                    .createNativeQuery("SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')")
+                    .getSingleResult();
+            if (!available) {
+                logger.warn("pg_trgm is not installed (see db/extensions.sql), relevance sorting falls back to id order");
+            }
+            trigramAvailable = available;
+        }
+        return available;
+    }
+
+    /**
+     * Whether a listing is ranked by word_similarity, which only applies to filtered listings and needs pg_trgm
+     */
+    private boolean ranksByRelevance(HomeSortKey sortKey, String filter) {
+        return sortKey == HomeSortKey.RELEVANCE && filter != null && trigramAvailable();
+    }
+
+    /**
+     * Binds the filter compared by the relevance ordering, if the query has one
+     */
+    private <T> TypedQuery<T> bindRelevanceFilter(TypedQuery<T> query, HomeSortKey sortKey, String filter) {
+        return ranksByRelevance(sortKey, filter) ? query.setParameter(RELEVANCE_FILTER, filter) : query;
+    }
+
+    /**
+     * Selects only the card columns straight into HomeCardDTO
+     * No Home entity is instantiated, so nothing is added to the persistence context, no dirty-checking
+     * snapshot is taken and the lazy HomeDetails association is never touched
+     */
+    private Selection<HomeCardDTO> homeCard(CriteriaBuilder cb, Root<Home> home) {
+        return cb.construct(HomeCardDTO.class,
+                home.get("id"),
+                home.get("address"),
+                home.get("cost"),
+                home.get("bedrooms"),
+                home.get("bathrooms"),
+                home.get("lotSize"),
+                home.get("mainImgUrl"),
+                home.get("livableAreaSize"),
+                home.get("overview"),
+                home.get("yearBuilt"));
+    }
+
+    /**
+     * Counts the homes matching the listing filter
+     */
+    private long countHomes(String filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Home> home = query.from(Home.class);
+        query.select(cb.count(home))
+                .where(filterPredicates(cb, home, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Counts the homes matching a search
+     */
+    private long countSearchResults(HomeSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Home> home = query.from(Home.class);
+        query.select(cb.count(home))
+                .where(searchPredicates(cb, home, criteria).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Builds one predicate per search condition that is present, on top of the address filter
+     */
+    private List<Predicate> searchPredicates(CriteriaBuilder cb, Root<Home> home, HomeSearchCriteria criteria) {
+        List<Predicate> predicates = filterPredicates(cb, home, criteria.getAddress());
+        if (criteria.getMinCost() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(home.get("cost"), criteria.getMinCost()));
+        }
+        if (criteria.getMaxCost() != null) {
+            predicates.add(cb.lessThanOrEqualTo(home.get("cost"), criteria.getMaxCost()));
+        }
+        if (criteria.getMinBedrooms() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(home.get("bedrooms"), criteria.getMinBedrooms()));
+        }
+        if (criteria.getMinBathrooms() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(home.get("bathrooms"), criteria.getMinBathrooms()));
+        }
+        if (criteria.getHomeType() != null) {
+            predicates.add(cb.equal(cb.lower(home.get("homeType")), criteria.getHomeType().toLowerCase(Locale.ROOT)));
+        }
+        if (criteria.getMinYearBuilt() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(home.get("yearBuilt"), criteria.getMinYearBuilt()));
+        }
+        if (criteria.getMaxYearBuilt() != null) {
+            predicates.add(cb.lessThanOrEqualTo(home.get("yearBuilt"), criteria.getMaxYearBuilt()));
+        }
+        return predicates;
+    }
+
+    /**
+     * Builds the predicates shared by every listing query
+     * The case-insensitive substring match is served by the pg_trgm GIN index on homes.address
+     * (see schema.sql) once the filter is at least three characters long
+     */
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Home> home, String filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            String pattern = "%" + escapeLike(filter) + "%";
+            predicates.add(((HibernateCriteriaBuilder) cb).ilike(home.get("address"), pattern, LIKE_ESCAPE));
+        }
+        return predicates;
+    }
+
+    /**
+     * Escapes LIKE wildcards so the filter is always matched literally
+     */
+    private static String escapeLike(String filter) {
+        return filter.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * Builds the predicate selecting rows strictly after (lastValue, lastId) in (sortKey ASC NULLS LAST, id ASC) order
+     */
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Home> home, HomeSortKey sortKey, BigDecimal lastValue, Long lastId) {
+        Path<Long> id = home.get("id");
+        if (sortKey == HomeSortKey.ID) {
+            return cb.greaterThan(id, lastId);
+        }
+        Expression<BigDecimal> column = home.get(sortKey.getAttribute());
+        if (lastValue == null) {
+            //Already inside the trailing block of rows without a value, only the id can advance
+            return cb.and(cb.isNull(column), cb.greaterThan(id, lastId));
+        }
+        return cb.or(
+                cb.greaterThan(column, lastValue),
+                cb.and(cb.equal(column, lastValue), cb.greaterThan(id, lastId)),
+                cb.isNull(column));
+    }
+
+    /**
+     * Builds a plain column ordering with id as tie-breaker so every position is unique
+     * Matches the (column, id) indexes declared on Home; PostgreSQL sorts nulls last for ASC
+     * Relevance orders by pg_trgm word similarity between the bound filter and the address, or by id alone
+     * without a filter or without pg_trgm
+     */
+    private List<Order> orderFor(CriteriaBuilder cb, Root<Home> home, HomeSortKey sortKey, String filter) {
+        List<Order> orders = new ArrayList<>(2);
+        if (sortKey == HomeSortKey.RELEVANCE) {
+            if (ranksByRelevance(sortKey, filter)) {
+                ParameterExpression<String> relevanceFilter = cb.parameter(String.class, RELEVANCE_FILTER);
+                orders.add(cb.desc(cb.function("word_similarity", Double.class, relevanceFilter, home.get("address"))));
+            }
+        } else if (sortKey != HomeSortKey.ID) {
+            orders.add(cb.asc(home.get(sortKey.getAttribute())));
+        }
+        orders.add(cb.asc(home.get("id")));
+        return orders;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * The optional conditions of a home search, each null when the client did not ask for it
+ * Only the conditions that are present become predicates, so PostgreSQL plans each combination on its own
+ */
+public class HomeSearchCriteria {
+    /////////////////////Exposed Variables/////////////////////
+    private final String address;
+
+    private final BigDecimal minCost;
+
+    private final BigDecimal maxCost;
+
+    private final BigDecimal minBedrooms;
+
+    private final BigDecimal minBathrooms;
+
+    private final String homeType;
+
+    private final Integer minYearBuilt;
+
+    private final Integer maxYearBuilt;
+
+    /////////////////////Constructors/////////////////////
+    //Constructor with all fields
+    public HomeSearchCriteria(String address, BigDecimal minCost, BigDecimal maxCost, BigDecimal minBedrooms,
+                              BigDecimal minBathrooms, String homeType, Integer minYearBuilt, Integer maxYearBuilt) {
+        this.address = address;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.minBedrooms = minBedrooms;
+        this.minBathrooms = minBathrooms;
+        this.homeType = homeType;
+        this.minYearBuilt = minYearBuilt;
+        this.maxYearBuilt = maxYearBuilt;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Creates a string representing the HomeSearchCriteria object
+     * Purpose: Logging and debugging
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "HomeSearchCriteria{" +
+                "address='" + address + '\'' +
+                ", minCost=" + minCost +
+                ", maxCost=" + maxCost +
+                ", minBedrooms=" + minBedrooms +
+                ", minBathrooms=" + minBathrooms +
+                ", homeType='" + homeType + '\'' +
+                ", minYearBuilt=" + minYearBuilt +
+                ", maxYearBuilt=" + maxYearBuilt +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getAddress() {
+        return address;
+    }
+
+    public BigDecimal getMinCost() {
+        return minCost;
+    }
+
+    public BigDecimal getMaxCost() {
+        return maxCost;
+    }
+
+    public BigDecimal getMinBedrooms() {
+        return minBedrooms;
+    }
+
+    public BigDecimal getMinBathrooms() {
+        return minBathrooms;
+    }
+
+    public String getHomeType() {
+        return homeType;
+    }
+
+    public Integer getMinYearBuilt() {
+        return minYearBuilt;
+    }
+
+    public Integer getMaxYearBuilt() {
+        return maxYearBuilt;
+    }
+}
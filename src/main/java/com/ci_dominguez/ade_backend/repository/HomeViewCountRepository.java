@@ -0,0 +1,29 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import com.ci_dominguez.ade_backend.model.HomeViewCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface HomeViewCountRepository extends JpaRepository<HomeViewCount, Long> {
+    /////////////////////Repository Methods/////////////////////
+    /**
+     * Adds view deltas to many homes in one statement, creating the rows that do not exist yet
+     * The two arrays are unnested side by side, so a whole flush is a single round-trip whatever its size
+     * Declares home_view_counts as its only table, otherwise every flush would evict all second-level cache regions
+     *
+     * @param homeIds The ids of the viewed homes, without duplicates
+     * @param views The number of new views of each home, in the same order
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "home_view_counts"))
+    @Query(value = "INSERT INTO home_view_counts (home_id, views, updated_at) " +
+            "SELECT d.home_id, d.views, now() FROM unnest(CAST(:homeIds AS bigint[]), CAST(:views AS bigint[])) AS d(home_id, views) " +
+            "ON CONFLICT (home_id) DO UPDATE SET views = home_view_counts.views + EXCLUDED.views, updated_at = now()",
+            nativeQuery = true)
+    void addViews(@Param("homeIds") Long[] homeIds, @Param("views") Long[] views);
+}
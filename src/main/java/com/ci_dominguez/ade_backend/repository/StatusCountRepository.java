@@ -0,0 +1,54 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import com.ci_dominguez.ade_backend.model.StatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StatusCountRepository extends JpaRepository<StatusCount, StatusCount.Key> {
+    /////////////////////Repository Methods/////////////////////
+    /**
+     * Retrieves every status count of one kind
+     *
+     * @param kind The counted entity, see StatusCounts
+     * @return A List of StatusCount rows for that kind
+     */
+    List<StatusCount> findByKind(String kind);
+
+    /**
+     * Adds a delta to one status count, creating the row if it does not exist yet
+     * A single upsert, so concurrent nodes adding to the same row never lose an update
+     * Declares status_counts as its only table; a native update without query spaces makes Hibernate evict every
+     * second-level cache region
+     *
+     * @param kind The counted entity
+     * @param status The status name
+     * @param delta The amount to add, may be negative
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "status_counts"))
+    @Query(value = "INSERT INTO status_counts (kind, status, total, updated_at) VALUES (:kind, :status, :delta, now()) " +
+            "ON CONFLICT (kind, status) DO UPDATE SET total = status_counts.total + EXCLUDED.total, updated_at = now()",
+            nativeQuery = true)
+    void addToTotal(@Param("kind") String kind, @Param("status") String status, @Param("delta") long delta);
+
+    /**
+     * Overwrites one status count with a recounted value, creating the row if it does not exist yet
+     *
+     * @param kind The counted entity
+     * @param status The status name
+     * @param total The recounted total
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "status_counts"))
+    @Query(value = "INSERT INTO status_counts (kind, status, total, updated_at) VALUES (:kind, :status, :total, now()) " +
+            "ON CONFLICT (kind, status) DO UPDATE SET total = EXCLUDED.total, updated_at = now()",
+            nativeQuery = true)
+    void setTotal(@Param("kind") String kind, @Param("status") String status, @Param("total") long total);
+}
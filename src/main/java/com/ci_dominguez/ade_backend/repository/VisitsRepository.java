@@ -3,9 +3,20 @@ package com.ci_dominguez.ade_backend.repository;
 import com.ci_dominguez.ade_backend.model.Visits;
 import com.ci_dominguez.ade_backend.model.enums.VisitStatus;
 import com.ci_dominguez.ade_backend.model.enums.VisitType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface VisitsRepository extends JpaRepository<Visits, Long>{
     /////////////////////Repository Methods/////////////////////
@@ -16,7 +27,76 @@ public interface VisitsRepository extends JpaRepository<Visits, Long>{
 
     List<Visits> findByStatus(VisitStatus status);
 
+    /**
+     * Counts Visits entities per status in a single scan
+     * Used to reconcile the incrementally maintained status counters, not on the request path
+     *
+     * @return One [VisitStatus, Long] row per status that has at least one visit
+     */
+    @Query("SELECT v.status, COUNT(v) FROM Visits v GROUP BY v.status")
+    List<Object[]> countGroupedByStatus();
+
     List<Visits> findByType(VisitType type);
 
     List<Visits> findByVisitorNameContainingIgnoreCase(String visitorName);
+
+    /**
+     * Retrieves a page of Visits entities with the specified status
+     *
+     * @param status The VisitStatus to filter by
+     * @param pageable The requested page and sort
+     * @return A Page of Visits entities matching the given status, with their homes loaded
+     */
+    @EntityGraph(attributePaths = "home")
+    Page<Visits> findByStatus(VisitStatus status, Pageable pageable);
+
+    /**
+     * Retrieves a page of Visits entities
+     * The homes are fetched in the same query, since they are serialized with every visit
+     *
+     * @param pageable The requested page and sort
+     * @return A Page of Visits entities with their homes loaded
+     */
+    @Override
+    @EntityGraph(attributePaths = "home")
+    Page<Visits> findAll(Pageable pageable);
+
+    /**
+     * Retrieves the newest Visits entities with the specified status
+     * Served by a range scan of idx_visits_status_created_at
+     *
+     * @param status The VisitStatus to list
+     * @param limit The maximum number of entities to return
+     * @return A List of Visits entities ordered by createdAt and id, newest first, with their homes loaded
+     */
+    @Query("SELECT v FROM Visits v JOIN FETCH v.home WHERE v.status = :status ORDER BY v.createdAt DESC, v.id DESC")
+    List<Visits> findInbox(@Param("status") VisitStatus status, Limit limit);
+
+    /**
+     * Retrieves the Visits entities with the specified status that come after a given entry in inbox order
+     * Seeks on the (createdAt, id) pair, so the cost does not grow with how far the agent has scrolled
+     *
+     * @param status The VisitStatus to list
+     * @param createdAt The createdAt of the last entry already returned
+     * @param id The id of the last entry already returned
+     * @param limit The maximum number of entities to return
+     * @return A List of Visits entities ordered by createdAt and id, newest first
+     */
+    @Query("SELECT v FROM Visits v JOIN FETCH v.home WHERE v.status = :status AND (v.createdAt, v.id) < (:createdAt, :id) " +
+            "ORDER BY v.createdAt DESC, v.id DESC")
+    List<Visits> findInboxAfter(@Param("status") VisitStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id, Limit limit);
+
+    /**
+     * Streams every Visits entity in id order, fetching rows from the database in chunks
+     * The home is left as an uninitialized reference, so reading its id costs no extra query
+     * Must be consumed and closed inside a transaction; entities stay managed until detached
+     *
+     * @return A Stream over all Visits entities
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Visits> streamAllByOrderByIdAsc();
 }
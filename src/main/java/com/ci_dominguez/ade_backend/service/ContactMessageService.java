@@ -1,38 +1,64 @@
 package com.ci_dominguez.ade_backend.service;
 
+import com.ci_dominguez.ade_backend.counter.StatusCounts;
+import com.ci_dominguez.ade_backend.dto.InboxPageDTO;
 import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.exception.QueueFullException;
+import com.ci_dominguez.ade_backend.ingestion.ContactMessageWriteBehindQueue;
 import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.enums.ContactMessageSortKey;
 import com.ci_dominguez.ade_backend.model.enums.MessageStatus;
 import com.ci_dominguez.ade_backend.repository.ContactMessageRepository;
+import com.ci_dominguez.ade_backend.validation.SubmissionValidator;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class ContactMessageService {
     private static final Logger logger = LoggerFactory.getLogger(ContactMessageService.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     //Inject ContactMessageRepository
     private final ContactMessageRepository contactMessageRepository;
 
-    public ContactMessageService(ContactMessageRepository contactMessageRepository){
+    private final ContactMessageWriteBehindQueue contactMessageQueue;
+
+    private final SubmissionValidator submissionValidator;
+
+    private final StatusCounts statusCounts;
+
+    public ContactMessageService(ContactMessageRepository contactMessageRepository,
+                                 ContactMessageWriteBehindQueue contactMessageQueue,
+                                 SubmissionValidator submissionValidator,
+                                 StatusCounts statusCounts){
         this.contactMessageRepository = contactMessageRepository;
+        this.contactMessageQueue = contactMessageQueue;
+        this.submissionValidator = submissionValidator;
+        this.statusCounts = statusCounts;
     }
 
     /////////////////////Service Methods/////////////////////
     /**
-     * Saves a new ContactMessage after performing
-     * the following validation checks:
-     * - Email format using a regex pattern
-     * - Phone number format (must be 10-15 digits)
-     * - Presence of all required fields (name, message, email, phone number)
+     * Saves a new ContactMessage after validating it with the SubmissionValidator
+     * which checks in one pass:
+     * - Presence and length of all required fields (name, message, email, phone number)
+     * - Email format
+     * - Phone number format (###-###-####)
      *
      * @param contactMessage The ContactMessage object to be saved
      * @return The saved ContactMessage object
@@ -41,19 +67,7 @@ public class ContactMessageService {
     @Transactional
     public ContactMessage saveContactMessage(ContactMessage contactMessage){
         try {
-            //Validate email format
-            if (!contactMessage.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")){
-                throw new ValidationException("Invalid email format");
-            }
-            //Validate phone number format
-            if (!contactMessage.getPhoneNumber().matches("^\\d{3}-\\d{3}-\\d{4}$")) {
-                throw new ValidationException("Invalid phone number format");
-            }
-            //Ensure all required fields are present
-            if (contactMessage.getName().isEmpty() || contactMessage.getMessage().isEmpty()
-                    || contactMessage.getEmail().isEmpty() || contactMessage.getPhoneNumber().isEmpty()) {
-                throw new ValidationException("All fields are required");
-            }
+            submissionValidator.validate(contactMessage);
             //Save and log the message
             ContactMessage savedMessage = contactMessageRepository.save(contactMessage);
             logger.info("Contact message saved successfully: {}", savedMessage.getId());
@@ -67,11 +81,39 @@ public class ContactMessageService {
         }
     }
 
+    /**
+     * Validates a ContactMessage and hands it to the write-behind queue instead of saving it
+     * The message is persisted by the queue's writer in a batch shortly afterwards
+     *
+     * @param contactMessage The ContactMessage object to be queued
+     * @return The tracking id assigned to the accepted message
+     * @throws ValidationException if any validation check fails
+     * @throws QueueFullException if the queue cannot take more messages right now
+     */
+    public UUID submitContactMessage(ContactMessage contactMessage){
+        try {
+            submissionValidator.validate(contactMessage);
+        } catch (ValidationException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            throw e;
+        }
+        UUID trackingId = UUID.randomUUID();
+        contactMessage.setTrackingId(trackingId);
+        if (!contactMessageQueue.offer(contactMessage)) {
+            logger.warn("Contact message queue is full, rejecting submission");
+            throw new QueueFullException("Contact message queue is full");
+        }
+        logger.info("Contact message accepted: {}", trackingId);
+        return trackingId;
+    }
+
     /**
      * Retrieves all ContactMessage entities from the database
      *
      * @return A List of all ContactMessage entities
+     * @deprecated Loads the whole table into memory, use {@link ExportService#exportContactMessages} instead
      */
+    @Deprecated
     public List<ContactMessage> getAllContactMessages(){
         return contactMessageRepository.findAll();
     }
@@ -81,19 +123,31 @@ public class ContactMessageService {
      *
      * @param status The MessageStatus to filter by
      * @return A List of ContactMessage entities matching the given status
+     * @deprecated Unbounded, use {@link #getContactMessagesPage} or {@link #getInboxAfterCursor} instead
      */
+    @Deprecated
     public  List<ContactMessage> getContactMessageByStatus(MessageStatus status){
         return contactMessageRepository.findByStatus(status);
     }
 
     /**
      * Counts the number of ContactMessage entities with a specific status
+     * Read from the incrementally maintained status counters, no query is run
      *
      * @param status The MessageStatus to count
      * @return The number of ContactMessage entities with the given status
      */
-    public Integer countContactMessagesByStatus(MessageStatus status){
-        return contactMessageRepository.countByStatus(status);
+    public long countContactMessagesByStatus(MessageStatus status){
+        return statusCounts.getContactMessageCount(status);
+    }
+
+    /**
+     * Counts the ContactMessage entities of every status, read from the status counters
+     *
+     * @return A map holding the count of each MessageStatus
+     */
+    public Map<MessageStatus, Long> countContactMessagesPerStatus(){
+        return statusCounts.getContactMessageCounts();
     }
 
     /**
@@ -102,7 +156,9 @@ public class ContactMessageService {
      * @param start The start date and time of the range
      * @param end The end date and time of the range
      * @return A List of ContactMessage entities created within the specified date range
+     * @deprecated Unbounded, use {@link #getContactMessagesByDateRange(LocalDateTime, LocalDateTime, int, int)} instead
      */
+    @Deprecated
     public List<ContactMessage> getContactMessagesByDateRange(LocalDateTime start, LocalDateTime end){
         return contactMessageRepository.findByCreatedAtBetween(start, end);
     }
@@ -120,12 +176,114 @@ public class ContactMessageService {
     /**
      * Retrieves all ContactMessage entities sorted by a specified field and order
      *
-     * @param sortBy The field to sort by
+     * @param sortBy The field to sort by, one of the ContactMessageSortKey attributes
      * @param order The sort order ("asc" for ascending, "desc" for descending)
      * @return A List of all ContactMessage entities, sorted as specified
+     * @throws ValidationException if the field or order is not allowed
+     * @deprecated Unbounded, use {@link #getContactMessagesPage} instead
      */
+    @Deprecated
     public List<ContactMessage> getSortedContactMessages(String sortBy, String order){
-        Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(order)));
-        return contactMessageRepository.findAll(sort);
+        return contactMessageRepository.findAll(sortFor(sortBy, order));
+    }
+
+    /**
+     * Retrieves one page of ContactMessage entities, optionally restricted to a status
+     *
+     * @param status Optional MessageStatus to filter by
+     * @param sortBy Optional field to sort by, one of the ContactMessageSortKey attributes, defaults to createdAt
+     * @param order Optional sort order ("asc" or "desc"), defaults to "desc"
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A Page of ContactMessage entities
+     * @throws ValidationException if the sort field, order or page bounds are not allowed
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public Page<ContactMessage> getContactMessagesPage(MessageStatus status, String sortBy, String order, int page, int size){
+        Pageable pageable = pageRequest(sortFor(sortBy, order), page, size);
+        try {
+            return status == null
+                    ? contactMessageRepository.findAll(pageable)
+                    : contactMessageRepository.findByStatus(status, pageable);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving contact message page", e);
+            throw new DatabaseException("Failed to retrieve contact messages", e);
+        }
+    }
+
+    /**
+     * Retrieves one page of ContactMessage entities created within a specified date range, newest first
+     *
+     * @param start The start date and time of the range
+     * @param end The end date and time of the range
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A Page of ContactMessage entities created within the specified date range
+     * @throws ValidationException if the page bounds are not allowed
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public Page<ContactMessage> getContactMessagesByDateRange(LocalDateTime start, LocalDateTime end, int page, int size){
+        Pageable pageable = pageRequest(sortFor(null, null), page, size);
+        try {
+            return contactMessageRepository.findByCreatedAtBetween(start, end, pageable);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving contact messages by date range", e);
+            throw new DatabaseException("Failed to retrieve contact messages", e);
+        }
+    }
+
+    /**
+     * Retrieves a slice of an agent's inbox, the messages with one status newest first, using keyset pagination
+     * Each slice is a range scan of the (status, createdAt, id) index, however deep the agent has scrolled
+     *
+     * @param status The MessageStatus to list
+     * @param cursor Optional continuation token returned with the previous slice
+     * @param size The maximum number of messages to return, at most 100
+     * @return The messages and the cursor for the next slice
+     * @throws ValidationException if the cursor is malformed or the size is out of bounds
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public InboxPageDTO<ContactMessage> getInboxAfterCursor(MessageStatus status, String cursor, int size){
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        InboxCursor position = cursor == null ? null : InboxCursor.decode(cursor, status.name());
+        try {
+            List<ContactMessage> messages = position == null
+                    ? contactMessageRepository.findInbox(status, Limit.of(size + 1))
+                    : contactMessageRepository.findInboxAfter(status, position.getLastCreatedAt(),
+                            position.getLastId(), Limit.of(size + 1));
+            String nextCursor = null;
+            if (messages.size() > size) {
+                messages = messages.subList(0, size);
+                ContactMessage last = messages.get(size - 1);
+                nextCursor = new InboxCursor(status.name(), last.getCreatedAt(), last.getId()).encode();
+            }
+            return new InboxPageDTO<>(messages, nextCursor);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving contact message inbox", e);
+            throw new DatabaseException("Failed to retrieve contact messages", e);
+        }
+    }
+
+    /**
+     * Builds the sort for a whitelisted field, with id as tie-breaker so pages never overlap
+     */
+    private static Sort sortFor(String sortBy, String order){
+        ContactMessageSortKey sortKey = ContactMessageSortKey.fromParam(sortBy);
+        if (sortKey == null) {
+            throw new ValidationException("Cannot sort contact messages by " + sortBy);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(order == null ? "desc" : order)
+                .orElseThrow(() -> new ValidationException("Order must be asc or desc"));
+        Sort sort = Sort.by(direction, sortKey.getAttribute());
+        return sortKey == ContactMessageSortKey.ID ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    private static Pageable pageRequest(Sort sort, int page, int size){
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size, sort);
     }
 }
@@ -0,0 +1,127 @@
+package com.ci_dominguez.ade_backend.service;
+
+import com.ci_dominguez.ade_backend.export.ExportColumn;
+import com.ci_dominguez.ade_backend.export.ExportWriter;
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.Visits;
+import com.ci_dominguez.ade_backend.model.enums.ExportFormat;
+import com.ci_dominguez.ade_backend.repository.ContactMessageRepository;
+import com.ci_dominguez.ade_backend.repository.VisitsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private static final List<ExportColumn<ContactMessage>> CONTACT_MESSAGE_COLUMNS = List.of(
+            new ExportColumn<>("id", ContactMessage::getId),
+            new ExportColumn<>("trackingId", ContactMessage::getTrackingId),
+            new ExportColumn<>("name", ContactMessage::getName),
+            new ExportColumn<>("email", ContactMessage::getEmail),
+            new ExportColumn<>("phoneNumber", ContactMessage::getPhoneNumber),
+            new ExportColumn<>("message", ContactMessage::getMessage),
+            new ExportColumn<>("status", ContactMessage::getStatus),
+            new ExportColumn<>("createdAt", ContactMessage::getCreatedAt),
+            new ExportColumn<>("updatedBy", ContactMessage::getUpdatedBy),
+            new ExportColumn<>("updatedAt", ContactMessage::getUpdatedAt));
+
+    private static final List<ExportColumn<Visits>> VISIT_COLUMNS = List.of(
+            new ExportColumn<>("id", Visits::getId),
+            new ExportColumn<>("trackingId", Visits::getTrackingId),
+            new ExportColumn<>("homeId", visit -> visit.getHome() != null ? visit.getHome().getId() : null),
+            new ExportColumn<>("visitorName", Visits::getVisitorName),
+            new ExportColumn<>("visitorEmail", Visits::getVisitorEmail),
+            new ExportColumn<>("visitorPhoneNumber", Visits::getVisitorPhoneNumber),
+            new ExportColumn<>("visitorComment", Visits::getVisitorComment),
+            new ExportColumn<>("requestedDate", Visits::getRequestedDate),
+            new ExportColumn<>("scheduledDate", Visits::getScheduledDate),
+            new ExportColumn<>("status", Visits::getStatus),
+            new ExportColumn<>("type", Visits::getType),
+            new ExportColumn<>("agentId", Visits::getAgentId),
+            new ExportColumn<>("agentNote", Visits::getAgentNote),
+            new ExportColumn<>("createdAt", Visits::getCreatedAt),
+            new ExportColumn<>("updatedAt", Visits::getUpdatedAt));
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    private final VisitsRepository visitsRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public ExportService(ContactMessageRepository contactMessageRepository, VisitsRepository visitsRepository,
+                         EntityManager entityManager, ObjectMapper objectMapper) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.visitsRepository = visitsRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /////////////////////Service Methods/////////////////////
+    /**
+     * Writes every ContactMessage to the stream in the given format
+     * Rows are read through a fetch-size bounded cursor and detached once written,
+     * so memory use does not depend on the number of messages
+     *
+     * @param format The export format
+     * @param out The stream to write to
+     * @return The number of exported messages
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public long exportContactMessages(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ContactMessage> rows = contactMessageRepository.streamAllByOrderByIdAsc()) {
+            long count = export(rows, CONTACT_MESSAGE_COLUMNS, format, out);
+            logger.info("Exported {} contact messages as {}", count, format);
+            return count;
+        }
+    }
+
+    /**
+     * Writes every Visit to the stream in the given format
+     * Rows are read through a fetch-size bounded cursor and detached once written,
+     * so memory use does not depend on the number of visits
+     *
+     * @param format The export format
+     * @param out The stream to write to
+     * @return The number of exported visits
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public long exportVisits(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Visits> rows = visitsRepository.streamAllByOrderByIdAsc()) {
+            long count = export(rows, VISIT_COLUMNS, format, out);
+            logger.info("Exported {} visits as {}", count, format);
+            return count;
+        }
+    }
+
+    private <T> long export(Stream<T> rows, List<ExportColumn<T>> columns, ExportFormat format,
+                            OutputStream out) throws IOException {
+        ExportWriter<T> writer = ExportWriter.of(format, columns, objectMapper, out);
+        writer.writeHeader();
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            writer.writeRow(row);
+            entityManager.detach(row);
+            count++;
+        }
+        writer.finish();
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package com.ci_dominguez.ade_backend.service;
+
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+import jakarta.validation.ValidationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over homes
+ * Encodes the sort key and the (sort value, id) pair of the last home a client has received
+ */
+public class HomeCursor {
+    private static final String VERSION = "v1";
+
+    private static final String SEPARATOR = ":";
+
+    /////////////////////Exposed Variables/////////////////////
+    private final HomeSortKey sortKey;
+
+    private final BigDecimal lastValue;
+
+    private final Long lastId;
+
+    /////////////////////Constructors/////////////////////
+    public HomeCursor(HomeSortKey sortKey, BigDecimal lastValue, Long lastId) {
+        this.sortKey = sortKey;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Encodes this cursor as a URL-safe token
+     *
+     * @return the opaque token handed to clients
+     */
+    public String encode() {
+        String value = lastValue == null ? "" : lastValue.toPlainString();
+        String raw = VERSION + SEPARATOR + sortKey.name() + SEPARATOR + value + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by encode()
+     *
+     * @param token The opaque token sent back by the client
+     * @return the decoded HomeCursor
+     * @throws ValidationException if the token is malformed
+     */
+    public static HomeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid cursor");
+            }
+            HomeSortKey sortKey = HomeSortKey.valueOf(parts[1]);
+            BigDecimal lastValue = parts[2].isEmpty() ? null : new BigDecimal(parts[2]);
+            return new HomeCursor(sortKey, lastValue, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HomeCursor{" +
+                "sortKey=" + sortKey +
+                ", lastValue=" + lastValue +
+                ", lastId=" + lastId +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public HomeSortKey getSortKey() {
+        return sortKey;
+    }
+
+    public BigDecimal getLastValue() {
+        return lastValue;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+}
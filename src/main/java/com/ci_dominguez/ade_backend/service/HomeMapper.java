@@ -0,0 +1,62 @@
+package com.ci_dominguez.ade_backend.service;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.HomeDetails;
+
+/**
+ * Copies Home entities into the DTOs returned by the home endpoints
+ * Pure functions of the entity, so they can be called without a Spring context
+ */
+public final class HomeMapper {
+
+    private HomeMapper() {
+    }
+
+    /**
+     * Converts a Home entity to a HomeCardDTO
+     *
+     * @param home The Home entity to convert
+     * @return A HomeCardDTO containing the essential information for a home card display
+     */
+    public static HomeCardDTO toHomeCardDTO(Home home) {
+        return new HomeCardDTO(
+                home.getId(),
+                home.getAddress(),
+                home.getCost(),
+                home.getBedrooms(),
+                home.getBathrooms(),
+                home.getLotSize(),
+                home.getMainImgUrl(),
+                home.getLivableAreaSize(),
+                home.getOverview(),
+                home.getYearBuilt()
+        );
+    }
+
+    /**
+     * Converts a Home entity and its associated HomeDetails to a HomeDetailsDTO
+     *
+     * @param home The Home entity to convert
+     * @return A HomeDetailsDTO containing all the detailed information about a home
+     */
+    public static HomeDetailsDTO toHomeDetailsDTO(Home home) {
+        HomeDetails details = home.getHomeDetails();
+        return new HomeDetailsDTO(
+                home.getId(),
+                home.getAddress(),
+                home.getCost(),
+                home.getBedrooms(),
+                home.getBathrooms(),
+                home.getLotSize(),
+                home.getLivableAreaSize(),
+                home.getMainImgUrl(),
+                details.getFacts(),
+                details.getWhatsSpecial(),
+                details.getPhotoGallery(),
+                home.getOverview(),
+                home.getYearBuilt()
+        );
+    }
+}
@@ -1,18 +1,29 @@
 package com.ci_dominguez.ade_backend.service;
 
+import com.ci_dominguez.ade_backend.cache.HomeCardCache;
+import com.ci_dominguez.ade_backend.cache.HomeDetailsSnapshot;
+import com.ci_dominguez.ade_backend.cache.HomeDetailsSnapshotStore;
 import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.dto.HomeCursorPageDTO;
 import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
 import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.index.HomeCatalogIndex;
+import com.ci_dominguez.ade_backend.index.SimilarHomesIndex;
 import com.ci_dominguez.ade_backend.model.Home;
-import com.ci_dominguez.ade_backend.model.HomeDetails;
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
 import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import com.ci_dominguez.ade_backend.repository.HomeSearchCriteria;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -21,14 +32,43 @@ import java.util.List;
 public class HomeService {
     private static final Logger logger = LoggerFactory.getLogger(HomeService.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    //Deepest row a search page may start at; deeper pages cost a scan of every skipped row, use the cursor listing
+    private static final long MAX_SEARCH_OFFSET = 10_000;
+
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
     private final HomeRepository homeRepository;
 
-    public HomeService(HomeRepository homeRepository) {
+    private final HomeCardCache homeCardCache;
+
+    private final HomeDetailsSnapshotStore homeDetailsSnapshotStore;
+
+    private final HomeCatalogIndex homeCatalogIndex;
+
+    private final SimilarHomesIndex similarHomesIndex;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public HomeService(HomeRepository homeRepository, HomeCardCache homeCardCache,
+                       HomeDetailsSnapshotStore homeDetailsSnapshotStore, HomeCatalogIndex homeCatalogIndex,
+                       SimilarHomesIndex similarHomesIndex, PlatformTransactionManager transactionManager) {
         this.homeRepository = homeRepository;
+        this.homeCardCache = homeCardCache;
+        this.homeDetailsSnapshotStore = homeDetailsSnapshotStore;
+        this.homeCatalogIndex = homeCatalogIndex;
+        this.similarHomesIndex = similarHomesIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * Retrieves a paginated list of homes with optional filtering and sorting
+     * Filtered listings without an explicit sortBy are ranked by address relevance
+     * Pages are served from the HomeCardCache until a Home changes or the entry expires
      *
      * @param filter Optional string to filter homes by address
      * @param sortBy Optional string to specify the sorting field
@@ -37,21 +77,104 @@ public class HomeService {
      * @throws DatabaseException if there's an error accessing the database
      */
     public Page<HomeCardDTO> getHomesWithFilterAndSort(String filter, String sortBy, Pageable pageable) {
+        HomeSortKey sortKey = HomeSortKey.fromParam(sortBy, filter);
         try {
-            Page<Home> homes = homeRepository.findHomesWithFilterAndSort(filter, sortBy, pageable);
-            return homes.map(this::convertToHomeCardDTO);
+            return homeCardCache.getOrLoad(filter, sortKey, pageable, () ->
+                    homeRepository.findHomesWithFilterAndSort(filter, sortKey, pageable));
         } catch (DataAccessException e) {
             logger.error("Error retrieving homes with filter and sort", e);
             throw new DatabaseException("Failed to retrieve homes", e);
         }
     }
 
+    /**
+     * Retrieves the next slice of homes using keyset pagination
+     * Fetches one extra row to decide whether a next cursor is needed, so no count query is issued
+     *
+     * @param filter Optional string to filter homes by address
+     * @param sortBy Optional string to specify the sorting field, ignored when a cursor is given
+     * @param cursor Optional token returned with the previous slice
+     * @param size The maximum number of homes to return
+     * @return A HomeCursorPageDTO with the homes and the cursor for the following slice
+     * @throws ValidationException if the cursor is malformed or the size is out of range
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public HomeCursorPageDTO getHomesAfterCursor(String filter, String sortBy, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        HomeCursor position = cursor == null ? null : HomeCursor.decode(cursor);
+        HomeSortKey sortKey = position == null ? HomeSortKey.fromParam(sortBy) : position.getSortKey();
+        if (sortKey == HomeSortKey.RELEVANCE) {
+            //Similarity scores are not stable seek keys, so relevance scrolling falls back to id order
+            sortKey = HomeSortKey.ID;
+        }
+        try {
+            List<HomeCardDTO> homes = homeRepository.findHomesAfter(filter, sortKey,
+                    position == null ? null : position.getLastValue(),
+                    position == null ? null : position.getLastId(),
+                    size + 1);
+            String nextCursor = null;
+            if (homes.size() > size) {
+                homes = homes.subList(0, size);
+                HomeCardDTO last = homes.get(size - 1);
+                nextCursor = new HomeCursor(sortKey, sortValue(last, sortKey), last.getId()).encode();
+            }
+            return new HomeCursorPageDTO(homes, nextCursor);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving homes after cursor", e);
+            throw new DatabaseException("Failed to retrieve homes", e);
+        }
+    }
+
+    /**
+     * Searches homes by any combination of address text, cost range, minimum bedrooms and bathrooms,
+     * home type and year built range, one bounded page at a time
+     * Filtered searches without an explicit sortBy are ranked by address relevance
+     *
+     * @param criteria The search conditions, absent ones are null
+     * @param sortBy Optional string to specify the sorting field
+     * @param page The zero-based page number, the page may not start past the first 10000 results
+     * @param size The page size, at most 100
+     * @return A Page of HomeCardDTO objects matching every given condition
+     * @throws ValidationException if a range is inverted, a minimum is negative or the page bounds are not allowed
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public Page<HomeCardDTO> searchHomes(HomeSearchCriteria criteria, String sortBy, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("Page must be at least 0 and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if ((long) page * size > MAX_SEARCH_OFFSET) {
+            throw new ValidationException("Search pages may not start past result " + MAX_SEARCH_OFFSET
+                    + ", narrow the search instead");
+        }
+        if (isNegative(criteria.getMinCost()) || isNegative(criteria.getMinBedrooms()) || isNegative(criteria.getMinBathrooms())) {
+            throw new ValidationException("Minimum cost, bedrooms and bathrooms must be non-negative");
+        }
+        if (criteria.getMinCost() != null && criteria.getMaxCost() != null
+                && criteria.getMinCost().compareTo(criteria.getMaxCost()) > 0) {
+            throw new ValidationException("Minimum cost cannot be greater than maximum cost");
+        }
+        if (criteria.getMinYearBuilt() != null && criteria.getMaxYearBuilt() != null
+                && criteria.getMinYearBuilt() > criteria.getMaxYearBuilt()) {
+            throw new ValidationException("Minimum year built cannot be greater than maximum year built");
+        }
+        HomeSortKey sortKey = HomeSortKey.fromParam(sortBy, criteria.getAddress());
+        try {
+            return homeRepository.searchHomes(criteria, sortKey, PageRequest.of(page, size));
+        } catch (DataAccessException e) {
+            logger.error("Error searching homes with {}", criteria, e);
+            throw new DatabaseException("Failed to search homes", e);
+        }
+    }
+
     /**
      * Finds homes within a specified cost range
+     * Served from the in-memory HomeCatalogIndex, the database is only read when the index has to be built
      *
      * @param minCost The minimum cost of homes to retrieve
      * @param maxCost The maximum cost of homes to retrieve
-     * @return A List of HomeCardDTO objects within the specified cost range
+     * @return A List of HomeCardDTO objects within the specified cost range, in ascending cost order
      * @throws ValidationException if the cost range is invalid
      * @throws DatabaseException if there's an error accessing the database
      */
@@ -60,8 +183,7 @@ public class HomeService {
             throw new ValidationException("Minimum cost cannot be greater than maximum cost");
         }
         try {
-            List<Home> homes = homeRepository.findHomesByCostRange(minCost, maxCost);
-            return homes.stream().map(this::convertToHomeCardDTO).toList();
+            return homeCatalogIndex.findByCostRange(minCost, maxCost);
         } catch (DataAccessException e) {
             logger.error("Error finding homes by cost range", e);
             throw new DatabaseException("Failed to find homes by cost range", e);
@@ -70,10 +192,11 @@ public class HomeService {
 
     /**
      * Finds homes with at least the specified number of bedrooms and bathrooms
+     * Served from the in-memory HomeCatalogIndex, the database is only read when the index has to be built
      *
      * @param minBedrooms The minimum number of bedrooms
      * @param minBathrooms The minimum number of bathrooms
-     * @return A List of HomeCardDTO objects meeting the bedroom and bathroom criteria
+     * @return A List of HomeCardDTO objects meeting the bedroom and bathroom criteria, in ascending cost order
      * @throws ValidationException if the input parameters are invalid
      * @throws DatabaseException if there's an error accessing the database
      */
@@ -82,66 +205,114 @@ public class HomeService {
             throw new ValidationException("Minimum bedrooms and bathrooms must be non-negative");
         }
         try {
-            List<Home> homes = homeRepository.findHomesByMinBedroomsAndBathrooms(minBedrooms, minBathrooms);
-            return homes.stream().map(this::convertToHomeCardDTO).toList();
+            return homeCatalogIndex.findByMinBedroomsAndBathrooms(minBedrooms, minBathrooms);
         } catch (DataAccessException e) {
             logger.error("Error finding homes by minimum bedrooms and bathrooms", e);
             throw new DatabaseException("Failed to find homes by minimum bedrooms and bathrooms", e);
         }
     }
 
-    public HomeDetailsDTO getHomeDetailsById(Long id) {
-        Home home = homeRepository.findById(id)
-                .orElseThrow(() -> new DatabaseException("Home not found with id: " + id));
-        return convertToHomeDetailsDTO(home);
+    /**
+     * Suggests homes for the address typed so far, one call per keystroke
+     * Every word of the query must start a word of the address, so "cedar fr" matches "2583 Cedar Way, Franklin, TN"
+     * Served from the in-memory HomeCatalogIndex, the database is only read when the index has to be built
+     *
+     * @param query The address text typed so far
+     * @param limit The maximum number of homes to return, at most 20
+     * @return A List of HomeCardDTO objects with matching addresses, in address order
+     * @throws ValidationException if the limit is out of bounds
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public List<HomeCardDTO> autocompleteAddress(String query, int limit) {
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_AUTOCOMPLETE_LIMIT);
+        }
+        try {
+            return homeCatalogIndex.findByAddressPrefix(query, limit);
+        } catch (DataAccessException e) {
+            logger.error("Error autocompleting home addresses", e);
+            throw new DatabaseException("Failed to autocomplete home addresses", e);
+        }
     }
 
+    /**
+     * Finds the homes most similar to a home by cost, size, bedrooms, bathrooms, age and home type
+     * Served from the precomputed SimilarHomesIndex, the database is only read when the index has to be built
+     *
+     * @param id The ID of the home
+     * @param limit Optional maximum number of homes to return, defaults to and is capped at the number of neighbours
+     *              the index keeps per home
+     * @return A List of HomeCardDTO objects, most similar first
+     * @throws ValidationException if the limit is below 1
+     * @throws DatabaseException if no home exists with the given id or the database cannot be read
+     */
+    public List<HomeCardDTO> findSimilarHomes(Long id, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new ValidationException("Limit must be at least 1");
+        }
+        int maxLimit = similarHomesIndex.getNeighbourCount();
+        limit = limit == null ? maxLimit : Math.min(limit, maxLimit);
+        List<HomeCardDTO> homes;
+        try {
+            homes = similarHomesIndex.findSimilar(id, limit);
+        } catch (DataAccessException e) {
+            logger.error("Error finding similar homes", e);
+            throw new DatabaseException("Failed to find similar homes", e);
+        }
+        if (homes == null) {
+            throw new DatabaseException("Home not found with id: " + id);
+        }
+        return homes;
+    }
 
     /**
-     * Converts a Home entity to a HomeCardDTO
+     * Retrieves the full details of a home
+     * Home, HomeDetails and its array/json columns are loaded by one fetch-joined statement
      *
-     * @param home The Home entity to convert
-     * @return A HomeCardDTO containing the essential information for a home card display
+     * @param id The ID of the home to retrieve
+     * @return A HomeDetailsDTO for the requested home
+     * @throws DatabaseException if no home exists with the given id
      */
-    public HomeCardDTO convertToHomeCardDTO(Home home) {
-        return new HomeCardDTO(
-                home.getId(),
-                home.getAddress(),
-                home.getCost(),
-                home.getBedrooms(),
-                home.getBathrooms(),
-                home.getLotSize(),
-                home.getMainImgUrl(),
-                home.getLivableAreaSize(),
-                home.getOverview(),
-                home.getYearBuilt()
-        );
+    @Transactional(readOnly = true)
+    public HomeDetailsDTO getHomeDetailsById(Long id) {
+        Home home = homeRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new DatabaseException("Home not found with id: " + id));
+        return HomeMapper.toHomeDetailsDTO(home);
     }
 
+
     /**
-     * Converts a Home entity and its associated HomeDetails to a HomeDetailsDTO
+     * Retrieves the pre-rendered JSON details of a home
+     * The database and Jackson are only involved the first time after the home has changed
+     * The loader runs in its own read-only transaction: a call from here to getHomeDetailsById would not go through
+     * the Spring proxy, so its @Transactional would not apply, and a snapshot hit needs no transaction at all
      *
-     * @param home The Home entity to convert
-     * @return A HomeDetailsDTO containing all the detailed information about a home
+     * @param id The ID of the home to retrieve
+     * @return A HomeDetailsSnapshot holding the serialized HomeDetailsDTO and its ETag
+     * @throws DatabaseException if no home exists with the given id
      */
-    public HomeDetailsDTO convertToHomeDetailsDTO(Home home) {
-        HomeDetails details = home.getHomeDetails();
-        return new HomeDetailsDTO(
-                home.getId(),
-                home.getAddress(),
-                home.getCost(),
-                home.getBedrooms(),
-                home.getBathrooms(),
-                home.getLotSize(),
-                home.getLivableAreaSize(),
-                home.getMainImgUrl(),
-                details.getFacts(),
-                details.getWhatsSpecial(),
-                details.getPhotoGallery(),
-                home.getOverview(),
-                home.getYearBuilt()
-        );
+    public HomeDetailsSnapshot getHomeDetailsSnapshot(Long id) {
+        return homeDetailsSnapshotStore.getOrRender(id,
+                () -> readOnlyTransaction.execute(status -> getHomeDetailsById(id)));
     }
 
+    private static boolean isNegative(BigDecimal value) {
+        return value != null && value.signum() < 0;
+    }
 
+    /**
+     * Reads the value of the column a listing is sorted by
+     *
+     * @param home The home card to read from
+     * @param sortKey The active sort key
+     * @return The sort column value, or null when sorting by id
+     */
+    private BigDecimal sortValue(HomeCardDTO home, HomeSortKey sortKey) {
+        return switch (sortKey) {
+            case COST -> home.getCost();
+            case BEDROOMS -> home.getBedrooms();
+            case BATHROOMS -> home.getBathrooms();
+            case ID, RELEVANCE -> null;
+        };
+    }
 }
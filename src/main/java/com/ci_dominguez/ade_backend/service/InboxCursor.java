@@ -0,0 +1,86 @@
+package com.ci_dominguez.ade_backend.service;
+
+import jakarta.validation.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over an agent inbox
+ * Encodes the status being listed and the (createdAt, id) pair of the last entry a client has received
+ */
+public class InboxCursor {
+    private static final String VERSION = "v1";
+
+    private static final String SEPARATOR = "|";
+
+    /////////////////////Exposed Variables/////////////////////
+    private final String status;
+
+    private final LocalDateTime lastCreatedAt;
+
+    private final Long lastId;
+
+    /////////////////////Constructors/////////////////////
+    public InboxCursor(String status, LocalDateTime lastCreatedAt, Long lastId) {
+        this.status = status;
+        this.lastCreatedAt = lastCreatedAt;
+        this.lastId = lastId;
+    }
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Encodes this cursor as a URL-safe token
+     *
+     * @return the opaque token handed to clients
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + status + SEPARATOR + lastCreatedAt + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by encode() for the same status
+     *
+     * @param token The opaque token sent back by the client
+     * @param status The status the client is listing
+     * @return the decoded InboxCursor
+     * @throws ValidationException if the token is malformed or belongs to another status
+     */
+    public static InboxCursor decode(String token, String status) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !parts[1].equals(status)) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new InboxCursor(parts[1], LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InboxCursor{" +
+                "status='" + status + '\'' +
+                ", lastCreatedAt=" + lastCreatedAt +
+                ", lastId=" + lastId +
+                '}';
+    }
+
+    /////////////////////Getters/////////////////////
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getLastCreatedAt() {
+        return lastCreatedAt;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+}
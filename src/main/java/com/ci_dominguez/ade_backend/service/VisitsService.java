@@ -1,39 +1,70 @@
 package com.ci_dominguez.ade_backend.service;
 
+import com.ci_dominguez.ade_backend.counter.StatusCounts;
+import com.ci_dominguez.ade_backend.dto.InboxPageDTO;
 import com.ci_dominguez.ade_backend.exception.DatabaseException;
+import com.ci_dominguez.ade_backend.exception.QueueFullException;
+import com.ci_dominguez.ade_backend.exception.SubmissionValidationException;
+import com.ci_dominguez.ade_backend.index.HomeCatalogIndex;
+import com.ci_dominguez.ade_backend.ingestion.VisitWriteBehindQueue;
 import com.ci_dominguez.ade_backend.model.Visits;
+import com.ci_dominguez.ade_backend.model.enums.VisitSortKey;
+import com.ci_dominguez.ade_backend.model.enums.VisitStatus;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
 import com.ci_dominguez.ade_backend.repository.VisitsRepository;
+import com.ci_dominguez.ade_backend.validation.SubmissionValidator;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class VisitsService {
 
     private static final Logger logger = LoggerFactory.getLogger(VisitsService.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     //Inject ContactMessageRepository
     private final VisitsRepository visitsRepository;
 
-    public VisitsService(VisitsRepository visitsRepository){
+    private final HomeRepository homeRepository;
+
+    private final VisitWriteBehindQueue visitQueue;
+
+    private final SubmissionValidator submissionValidator;
+
+    private final StatusCounts statusCounts;
+
+    private final HomeCatalogIndex homeCatalogIndex;
+
+    public VisitsService(VisitsRepository visitsRepository, HomeRepository homeRepository,
+                         VisitWriteBehindQueue visitQueue, SubmissionValidator submissionValidator,
+                         StatusCounts statusCounts, HomeCatalogIndex homeCatalogIndex){
         this.visitsRepository = visitsRepository;
+        this.homeRepository = homeRepository;
+        this.visitQueue = visitQueue;
+        this.submissionValidator = submissionValidator;
+        this.statusCounts = statusCounts;
+        this.homeCatalogIndex = homeCatalogIndex;
     }
 
     /////////////////////Service Methods/////////////////////
 
     /**
-     * Saves a new Visit after performing
-     * the following validation checks:
-     * - Email format using a regex pattern
-     * - Phone number format
-     * - Valid future date
-     * - Presence of all required fields
+     * Saves a new Visit after validating it with the SubmissionValidator
+     * The home is attached by reference, so only its id is used and the Home row is not loaded
      *
      * @param visitReq The Visits object to be saved
      * @return the saved Visits object
@@ -42,24 +73,8 @@ public class VisitsService {
     @Transactional
     public Visits saveVisit(Visits visitReq){
         try{
-            //Validate email format
-            if (!visitReq.getVisitorEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")){
-                throw new ValidationException("Invalid email format");
-            }
-            //Validate phone number format
-            if (!visitReq.getVisitorPhoneNumber().matches("^\\d{3}-\\d{3}-\\d{4}$")){
-                throw new ValidationException("Invalid phone number format");
-            }
-            //Validate requested date
-            if (visitReq.getRequestedDate().isBefore(LocalDateTime.now())) {
-                throw new ValidationException("Requested date must be in the future");
-            }
-            //Ensure all required fields are present
-            if (visitReq.getVisitorName().isEmpty() || visitReq.getVisitorEmail().isEmpty()
-                    || visitReq.getVisitorPhoneNumber().isEmpty() || visitReq.getVisitorComment().isEmpty()
-                    || visitReq.getRequestedDate() == null){
-                throw new ValidationException("All fields are required");
-            }
+            submissionValidator.validate(visitReq);
+            visitReq.setHome(homeRepository.getReferenceById(visitReq.getHome().getId()));
             //Save and log the request
             Visits savedVisitReq = visitsRepository.save(visitReq);
             logger.info("Request saved successfully: {}", savedVisitReq.getId());
@@ -73,11 +88,43 @@ public class VisitsService {
         }
     }
 
+    /**
+     * Validates a Visit and hands it to the write-behind queue instead of saving it
+     * The request is persisted by the queue's writer in a batch shortly afterwards, so the home is checked here:
+     * once the request is accepted an unknown home could only fail in the writer, long after the response
+     *
+     * @param visitReq The Visits object to be queued
+     * @return The tracking id assigned to the accepted request
+     * @throws ValidationException if any validation check fails or the home does not exist
+     * @throws QueueFullException if the queue cannot take more requests right now
+     */
+    public UUID submitVisit(Visits visitReq){
+        try {
+            submissionValidator.validate(visitReq);
+            if (!homeExists(visitReq.getHome().getId())) {
+                throw new SubmissionValidationException(Map.of("home", "Home not found"));
+            }
+        } catch (ValidationException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            throw e;
+        }
+        UUID trackingId = UUID.randomUUID();
+        visitReq.setTrackingId(trackingId);
+        if (!visitQueue.offer(visitReq)) {
+            logger.warn("Visit request queue is full, rejecting submission");
+            throw new QueueFullException("Visit request queue is full");
+        }
+        logger.info("Visit request accepted: {}", trackingId);
+        return trackingId;
+    }
+
     /**
      * Retrieves all Visits entities from the database
      *
      * @return A List of all Visits entities
+     * @deprecated Loads the whole table into memory, use {@link ExportService#exportVisits} instead
      */
+    @Deprecated
     public List<Visits> getAllVisits() { return visitsRepository.findAll(); }
 
     /**
@@ -89,4 +136,109 @@ public class VisitsService {
     public List<Visits> searchVisitsByName(String visitorName){
         return visitsRepository.findByVisitorNameContainingIgnoreCase(visitorName);
     }
+
+    /**
+     * Counts the number of Visits entities with a specific status
+     * Read from the incrementally maintained status counters, no query is run
+     *
+     * @param status The VisitStatus to count
+     * @return The number of Visits entities with the given status
+     */
+    public long countVisitsByStatus(VisitStatus status){
+        return statusCounts.getVisitCount(status);
+    }
+
+    /**
+     * Counts the Visits entities of every status, read from the status counters
+     *
+     * @return A map holding the count of each VisitStatus
+     */
+    public Map<VisitStatus, Long> countVisitsPerStatus(){
+        return statusCounts.getVisitCounts();
+    }
+
+    /**
+     * Retrieves one page of Visits entities, optionally restricted to a status
+     *
+     * @param status Optional VisitStatus to filter by
+     * @param sortBy Optional field to sort by, one of the VisitSortKey attributes, defaults to createdAt
+     * @param order Optional sort order ("asc" or "desc"), defaults to "desc"
+     * @param page The zero-based page number
+     * @param size The page size, at most 100
+     * @return A Page of Visits entities
+     * @throws ValidationException if the sort field, order or page bounds are not allowed
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public Page<Visits> getVisitsPage(VisitStatus status, String sortBy, String order, int page, int size){
+        Pageable pageable = pageRequest(sortFor(sortBy, order), page, size);
+        try {
+            return status == null ? visitsRepository.findAll(pageable) : visitsRepository.findByStatus(status, pageable);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving visit page", e);
+            throw new DatabaseException("Failed to retrieve visits", e);
+        }
+    }
+
+    /**
+     * Retrieves a slice of an agent's inbox, the visits with one status newest first, using keyset pagination
+     * Each slice is a range scan of the (status, createdAt, id) index, however deep the agent has scrolled
+     *
+     * @param status The VisitStatus to list
+     * @param cursor Optional continuation token returned with the previous slice
+     * @param size The maximum number of visits to return, at most 100
+     * @return The visits and the cursor for the next slice
+     * @throws ValidationException if the cursor is malformed or the size is out of bounds
+     * @throws DatabaseException if there's an error accessing the database
+     */
+    public InboxPageDTO<Visits> getInboxAfterCursor(VisitStatus status, String cursor, int size){
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        InboxCursor position = cursor == null ? null : InboxCursor.decode(cursor, status.name());
+        try {
+            List<Visits> visits = position == null
+                    ? visitsRepository.findInbox(status, Limit.of(size + 1))
+                    : visitsRepository.findInboxAfter(status, position.getLastCreatedAt(),
+                            position.getLastId(), Limit.of(size + 1));
+            String nextCursor = null;
+            if (visits.size() > size) {
+                visits = visits.subList(0, size);
+                Visits last = visits.get(size - 1);
+                nextCursor = new InboxCursor(status.name(), last.getCreatedAt(), last.getId()).encode();
+            }
+            return new InboxPageDTO<>(visits, nextCursor);
+        } catch (DataAccessException e) {
+            logger.error("Error retrieving visit inbox", e);
+            throw new DatabaseException("Failed to retrieve visits", e);
+        }
+    }
+
+    /**
+     * Checks that a home exists, from the home index and only falling back to the database on a miss
+     * A home created since the index was last rebuilt is not in it yet
+     */
+    private boolean homeExists(Long homeId) {
+        return homeCatalogIndex.findCard(homeId) != null || homeRepository.existsById(homeId);
+    }
+
+    /**
+     * Builds the sort for a whitelisted field, with id as tie-breaker so pages never overlap
+     */
+    private static Sort sortFor(String sortBy, String order){
+        VisitSortKey sortKey = VisitSortKey.fromParam(sortBy);
+        if (sortKey == null) {
+            throw new ValidationException("Cannot sort visits by " + sortBy);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(order == null ? "desc" : order)
+                .orElseThrow(() -> new ValidationException("Order must be asc or desc"));
+        Sort sort = Sort.by(direction, sortKey.getAttribute());
+        return sortKey == VisitSortKey.ID ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    private static Pageable pageRequest(Sort sort, int page, int size){
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size, sort);
+    }
 }
@@ -0,0 +1,153 @@
+package com.ci_dominguez.ade_backend.validation;
+
+import com.ci_dominguez.ade_backend.exception.SubmissionValidationException;
+import com.ci_dominguez.ade_backend.model.ContactMessage;
+import com.ci_dominguez.ade_backend.model.Visits;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Validates public submissions in a single pass and reports every invalid field at once
+ * Email and phone formats are checked with hand-written scanners equivalent to the former
+ * "^[A-Za-z0-9+_.-]+@(.+)$" and "^\d{3}-\d{3}-\d{4}$" patterns, so no regex is compiled or run
+ */
+@Component
+public class SubmissionValidator {
+
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private static final int MAX_EMAIL_LENGTH = 100;
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    /////////////////////Methods/////////////////////
+    /**
+     * Validates a contact message submission
+     *
+     * @param contactMessage The ContactMessage to validate
+     * @throws SubmissionValidationException listing every invalid field
+     */
+    public void validate(ContactMessage contactMessage) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        checkText(errors, "name", contactMessage.getName(), MAX_NAME_LENGTH, "Full name");
+        checkEmail(errors, "email", contactMessage.getEmail());
+        checkPhoneNumber(errors, "phoneNumber", contactMessage.getPhoneNumber());
+        checkText(errors, "message", contactMessage.getMessage(), MAX_MESSAGE_LENGTH, "Message");
+        throwIfAny(errors);
+    }
+
+    /**
+     * Validates a visit request submission
+     *
+     * @param visitReq The Visits request to validate
+     * @throws SubmissionValidationException listing every invalid field
+     */
+    public void validate(Visits visitReq) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        checkText(errors, "visitorName", visitReq.getVisitorName(), MAX_NAME_LENGTH, "Full name");
+        checkEmail(errors, "visitorEmail", visitReq.getVisitorEmail());
+        checkPhoneNumber(errors, "visitorPhoneNumber", visitReq.getVisitorPhoneNumber());
+        checkText(errors, "visitorComment", visitReq.getVisitorComment(), MAX_MESSAGE_LENGTH, "Message");
+        if (visitReq.getRequestedDate() == null) {
+            errors.put("requestedDate", "Date and Time is required");
+        } else if (visitReq.getRequestedDate().isBefore(LocalDateTime.now())) {
+            errors.put("requestedDate", "Requested date must be in the future");
+        }
+        if (visitReq.getHome() == null || visitReq.getHome().getId() == null) {
+            errors.put("home", "Home is required");
+        }
+        throwIfAny(errors);
+    }
+
+    /**
+     * Checks an email against ^[A-Za-z0-9+_.-]+@(.+)$
+     *
+     * @param email The value to check, may be null
+     * @return true if the email has a valid format
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= length - 1 || email.charAt(at) != '@') {
+            return false;
+        }
+        //'.' in the domain group matches anything except line terminators
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks a phone number against ^\d{3}-\d{3}-\d{4}$
+     *
+     * @param phoneNumber The value to check, may be null
+     * @return true if the phone number has a valid format
+     */
+    public static boolean isValidPhoneNumber(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.length() != 12) {
+            return false;
+        }
+        for (int i = 0; i < 12; i++) {
+            char c = phoneNumber.charAt(i);
+            boolean valid = (i == 3 || i == 7) ? c == '-' : (c >= '0' && c <= '9');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /////////////////////Helpers/////////////////////
+    private static void checkText(Map<String, String> errors, String field, String value, int maxLength, String label) {
+        if (value == null || value.isBlank()) {
+            errors.put(field, label + " is required");
+        } else if (value.length() > maxLength) {
+            errors.put(field, label + " must be less than " + maxLength + " characters");
+        }
+    }
+
+    private static void checkEmail(Map<String, String> errors, String field, String email) {
+        if (email == null || email.isBlank()) {
+            errors.put(field, "Email is required");
+        } else if (email.length() > MAX_EMAIL_LENGTH) {
+            errors.put(field, "Email must be less than " + MAX_EMAIL_LENGTH + " characters");
+        } else if (!isValidEmail(email)) {
+            errors.put(field, "Invalid email format");
+        }
+    }
+
+    private static void checkPhoneNumber(Map<String, String> errors, String field, String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            errors.put(field, "Phone number is required");
+        } else if (!isValidPhoneNumber(phoneNumber)) {
+            errors.put(field, "Invalid phone number format");
+        }
+    }
+
+    private static void throwIfAny(Map<String, String> errors) {
+        if (!errors.isEmpty()) {
+            throw new SubmissionValidationException(errors);
+        }
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,7 @@
+-- One-time setup run by a database owner before the first deployment, not by the application:
+--   psql -d <database> -f extensions.sql
+-- The application role then needs no privilege beyond its own schema. schema.sql only creates the indexes that
+-- depend on these extensions, and skips them while an extension is missing.
+
+-- pg_trgm provides the gin_trgm_ops index behind the address filter and word_similarity() used by relevance sorting
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,27 @@
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization=true),
+-- so it only holds objects that cannot be declared through JPA annotations. Every statement must be idempotent.
+
+-- Trigram index backing the case-insensitive address filter and word_similarity() ranking of home listings.
+-- pg_trgm is installed once by a database owner (db/extensions.sql) since creating it needs more privilege than the
+-- application has. Until then the index is skipped, the address filter runs as a sequential scan and relevance
+-- sorting falls back to id order (HomeRepositoryImpl checks for the extension at startup).
+-- The block is single-quoted so the script splitter keeps it in one statement.
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = ''pg_trgm'') THEN
+        CREATE INDEX IF NOT EXISTS idx_homes_address_trgm ON homes USING gin (address gin_trgm_ops);
+    ELSE
+        RAISE WARNING ''pg_trgm is not installed, skipping idx_homes_address_trgm (see db/extensions.sql)'';
+    END IF;
+END
+';
+
+-- The search matches home types case-insensitively with lower(home_type) = ?, which a plain column index cannot serve
+CREATE INDEX IF NOT EXISTS idx_homes_lower_home_type ON homes (lower(home_type));
+
+-- contactMessages and visits moved from IDENTITY to pooled sequences (allocationSize = 50). Keep each sequence ahead
+-- of ids that were assigned by the identity column; with the pooled optimizer the next block starts after last_value.
+SELECT setval('contact_messages_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM contact_messages),
+                                               (SELECT last_value FROM contact_messages_seq)));
+SELECT setval('visits_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM visits),
+                                     (SELECT last_value FROM visits_seq)));
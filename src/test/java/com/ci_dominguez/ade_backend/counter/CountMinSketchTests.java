@@ -0,0 +1,68 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the sketch estimates: never below the true count, exact for a lone key and shared by every key when a row
+ * holds a single counter
+ */
+class CountMinSketchTests {
+
+    @Test
+    void estimatesNeverUndercount() {
+        //Far more keys than counters, so most estimates include collisions
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (long key = 0; key < 1000; key++) {
+            for (int i = 0; i < trueCount(key); i++) {
+                sketch.add(key);
+            }
+        }
+
+        for (long key = 0; key < 1000; key++) {
+            assertTrue(sketch.estimate(key) >= trueCount(key), "key " + key);
+        }
+    }
+
+    @Test
+    void aLoneKeyIsCountedExactly() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 5; i++) {
+            sketch.add(42L);
+        }
+
+        assertEquals(5, sketch.estimate(42L));
+        assertEquals(0, sketch.estimate(-42L));
+    }
+
+    @Test
+    void aWidthOfOneSharesOneCounterPerRow() {
+        CountMinSketch sketch = new CountMinSketch(2, 1);
+        sketch.add(1L);
+        sketch.add(2L);
+        sketch.add(3L);
+
+        assertEquals(3, sketch.estimate(1L));
+        assertEquals(3, sketch.estimate(99L));
+    }
+
+    @Test
+    void clearResetsEveryCounter() {
+        CountMinSketch sketch = new CountMinSketch(4, 16);
+        for (long key = 0; key < 100; key++) {
+            sketch.add(key);
+        }
+        sketch.clear();
+
+        for (long key = 0; key < 100; key++) {
+            assertEquals(0, sketch.estimate(key));
+        }
+    }
+
+    /////////////////////Helpers/////////////////////
+    private static int trueCount(long key) {
+        return (int) (key % 7) + 1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.HomeDetails;
+import com.ci_dominguez.ade_backend.model.HomeViewCount;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import com.ci_dominguez.ade_backend.repository.HomeViewCountRepository;
+import com.ci_dominguez.ade_backend.service.HomeService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that flushing the view counts touches only home_view_counts
+ */
+//The test profile turns the scheduled flush off, so the test decides when views are written
+@SpringBootTest
+@ActiveProfiles("test")
+class HomeViewCounterTests {
+
+    @Autowired
+    private HomeViewCounter homeViewCounter;
+
+    @Autowired
+    private HomeViewCountRepository homeViewCountRepository;
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private HomeRepository homeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long homeId;
+
+    @BeforeEach
+    void createHome() {
+        Home home = new Home();
+        home.setAddress("456 View Count Ave");
+        home.setCost(new BigDecimal("380000"));
+
+        HomeDetails details = new HomeDetails();
+        details.setHome(home);
+        details.setPhotoGallery(List.of("front.jpg"));
+        details.setWhatsSpecial(List.of("Quiet street"));
+        details.setFacts(Map.of("heating", "Heat pump"));
+        home.setHomeDetails(details);
+
+        homeId = homeRepository.save(home).getId();
+    }
+
+    @AfterEach
+    void deleteHome() {
+        homeViewCountRepository.deleteById(homeId);
+        homeRepository.deleteById(homeId);
+    }
+
+    @Test
+    void flushKeepsCachedHomesInPlace() {
+        homeService.getHomeDetailsById(homeId);
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Home.class, homeId));
+
+        homeViewCounter.recordView(homeId);
+        homeViewCounter.recordView(homeId);
+        homeViewCounter.flush();
+
+        assertEquals(2, homeViewCountRepository.findById(homeId).map(HomeViewCount::getViews).orElse(0L));
+        assertTrue(cache.contains(Home.class, homeId));
+    }
+}
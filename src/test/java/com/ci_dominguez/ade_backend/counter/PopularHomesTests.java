@@ -0,0 +1,117 @@
+package com.ci_dominguez.ade_backend.counter;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import com.ci_dominguez.ade_backend.index.HomeCatalogIndex;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the popularity ranking across windows: views rank homes with ties to the lower id, older windows are
+ * decayed and the oldest window is cleared when the ring rotates
+ */
+class PopularHomesTests {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    //Home 99 is missing from the catalogue, as if deleted after it was viewed
+    private static final HomeCatalogIndex CATALOGUE = new HomeCatalogIndex(null) {
+        @Override
+        public HomeCardDTO findCard(Long homeId) {
+            return homeId == 99L ? null
+                    : new HomeCardDTO(homeId, homeId + " Test Street", null, null, null, null, null, null, null, 2000);
+        }
+    };
+
+    //Far enough past the construction time that the first refresh moves the ring to a window of its own
+    private final long start = (System.currentTimeMillis() / WINDOW_MILLIS + 100) * WINDOW_MILLIS;
+
+    @Test
+    void homesAreRankedByViewsWithTiesToTheLowerId() {
+        PopularHomes popularHomes = popularHomes(3, 0.5);
+        view(popularHomes, 1L, 3);
+        view(popularHomes, 2L, 5);
+        view(popularHomes, 3L, 3);
+        view(popularHomes, 4L, 1);
+        popularHomes.refresh(window(0));
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(popularHomes.getPopularHomes(10)));
+        assertEquals(List.of(2L, 1L), ids(popularHomes.getPopularHomes(2)));
+    }
+
+    @Test
+    void homesMissingFromTheCatalogueAreSkipped() {
+        PopularHomes popularHomes = popularHomes(3, 0.5);
+        view(popularHomes, 99L, 5);
+        view(popularHomes, 1L, 1);
+        popularHomes.refresh(window(0));
+
+        assertEquals(List.of(1L), ids(popularHomes.getPopularHomes(10)));
+    }
+
+    @Test
+    void olderWindowsAreDecayed() {
+        PopularHomes popularHomes = popularHomes(3, 0.5);
+        view(popularHomes, 1L, 4);
+        popularHomes.refresh(window(1));
+        view(popularHomes, 2L, 3);
+        popularHomes.refresh(window(1));
+
+        assertEquals(2.0, popularHomes.score(1L));
+        assertEquals(3.0, popularHomes.score(2L));
+        assertEquals(List.of(2L, 1L), ids(popularHomes.getPopularHomes(10)));
+    }
+
+    @Test
+    void rotationClearsTheOldestWindow() {
+        PopularHomes popularHomes = popularHomes(3, 0.5);
+        view(popularHomes, 1L, 8);
+        popularHomes.refresh(window(2));
+
+        assertEquals(2.0, popularHomes.score(1L));
+        assertEquals(List.of(1L), ids(popularHomes.getPopularHomes(10)));
+
+        popularHomes.refresh(window(3));
+        view(popularHomes, 2L, 1);
+        popularHomes.refresh(window(3));
+
+        assertEquals(0.0, popularHomes.score(1L));
+        assertEquals(List.of(2L), ids(popularHomes.getPopularHomes(10)));
+    }
+
+    @Test
+    void limitsOutsideTheTopKAreRejected() {
+        PopularHomes popularHomes = popularHomes(3, 0.5);
+
+        assertThrows(ValidationException.class, () -> popularHomes.getPopularHomes(0));
+        assertThrows(ValidationException.class, () -> popularHomes.getPopularHomes(11));
+    }
+
+    /////////////////////Helpers/////////////////////
+    /**
+     * Creates a ranking of the top 10 homes over one-minute windows, moved to window 0
+     */
+    private PopularHomes popularHomes(int windowCount, double decay) {
+        PopularHomes popularHomes = new PopularHomes(CATALOGUE, 10, windowCount, 1, decay, 4, 1024);
+        popularHomes.refresh(window(0));
+        return popularHomes;
+    }
+
+    private long window(int number) {
+        return start + number * WINDOW_MILLIS;
+    }
+
+    private static void view(PopularHomes popularHomes, Long homeId, int views) {
+        for (int i = 0; i < views; i++) {
+            popularHomes.recordView(homeId);
+        }
+    }
+
+    private static List<Long> ids(List<HomeCardDTO> cards) {
+        return cards.stream().map(HomeCardDTO::getId).toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ci_dominguez.ade_backend.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that statements differing only in their values normalize to the same text, and that identifiers and
+ * ORDER BY ordinals survive
+ */
+class SqlNormalizerTests {
+
+    @Test
+    void stringLiteralsBecomePlaceholdersIncludingEscapedQuotes() {
+        assertEquals("select * from home where address = ? and home_type = ?",
+                SqlNormalizer.normalize("select * from home where address = 'O''Brien''s Way' and home_type = 'condo'"));
+        assertEquals("select ?", SqlNormalizer.normalize("select ''''"));
+        assertEquals("select ?", SqlNormalizer.normalize("select 'unterminated"));
+    }
+
+    @Test
+    void numbersBecomePlaceholders() {
+        assertEquals("select * from home where cost between ? and ? limit ? offset ?",
+                SqlNormalizer.normalize("select * from home where cost between 100000.50 and 200000 limit 20 offset 40"));
+    }
+
+    @Test
+    void inListsCollapseToOnePlaceholder() {
+        String expected = "select * from home where id in (?)";
+        assertEquals(expected, SqlNormalizer.normalize("select * from home where id in (?, ?, ?)"));
+        assertEquals(expected, SqlNormalizer.normalize("select * from home where id in (?)"));
+        assertEquals(expected, SqlNormalizer.normalize("select * from home where id in (1,2,3)"));
+        assertEquals(expected, SqlNormalizer.normalize("select * from home where id in ('a', 'b')"));
+    }
+
+    @Test
+    void identifiersContainingDigitsAreKept() {
+        assertEquals("select h1_0.id,h1_0.cost from home h1_0 where h1_0.year_built>? and t2.col3=?",
+                SqlNormalizer.normalize("select h1_0.id,h1_0.cost from home h1_0 where h1_0.year_built>1990 and t2.col3=7"));
+    }
+
+    @Test
+    void orderByOrdinalsAreKept() {
+        assertEquals("select h1_0.id,h1_0.cost from home h1_0 order by 2,1 limit ?",
+                SqlNormalizer.normalize("select h1_0.id,h1_0.cost from home h1_0 order by 2,1 limit 20"));
+    }
+
+    @Test
+    void whitespaceRunsBecomeOneSpace() {
+        assertEquals("select * from home where id = ?",
+                SqlNormalizer.normalize("  select\n\t*  from home\r\n where id =   ?  "));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks address autocomplete: every query token must be the prefix of some address token, matches come back in
+ * address order
+ */
+class AddressPrefixIndexTests {
+
+    private static final AddressPrefixIndex INDEX = new AddressPrefixIndex(new HomeCardDTO[]{
+            home(1L, "2583 Cedar Way, Franklin, TN"),
+            home(2L, "14 Cedarwood Ct, Nashville, TN"),
+            home(3L, "900 Franklin Pike, Brentwood, TN"),
+            home(4L, "77 Oak St, Franklin, KY"),
+            home(5L, "2583 Elm Dr, Murfreesboro, TN"),
+            home(6L, null)});
+
+    @Test
+    void tokensAreSplitOnPunctuationAndMatchedIgnoringCase() {
+        assertEquals(List.of(4L), ids(INDEX.matching("KY", 10)));
+        assertEquals(List.of(2L, 1L), ids(INDEX.matching("cedar", 10)));
+        assertEquals(List.of(1L, 5L), ids(INDEX.matching("2583,", 10)));
+        assertEquals(List.of(), ids(INDEX.matching("edar", 10)));
+    }
+
+    @Test
+    void everyQueryTokenMustMatchInAnyOrder() {
+        assertEquals(List.of(1L), ids(INDEX.matching("cedar fr", 10)));
+        assertEquals(List.of(1L), ids(INDEX.matching("fr, CEDAR", 10)));
+        assertEquals(List.of(1L, 3L), ids(INDEX.matching("frank tn", 10)));
+        assertEquals(List.of(), ids(INDEX.matching("oak tn", 10)));
+    }
+
+    @Test
+    void matchesAreLimitedInAddressOrder() {
+        assertEquals(List.of(2L, 1L, 5L, 3L), ids(INDEX.matching("t", 10)));
+        assertEquals(List.of(2L, 1L), ids(INDEX.matching("t", 2)));
+    }
+
+    @Test
+    void queriesWithoutTokensMatchNothing() {
+        assertEquals(List.of(), ids(INDEX.matching("", 10)));
+        assertEquals(List.of(), ids(INDEX.matching("  ,.- ", 10)));
+        assertEquals(List.of(), ids(INDEX.matching(null, 10)));
+    }
+
+    /////////////////////Helpers/////////////////////
+    private static HomeCardDTO home(Long id, String address) {
+        return new HomeCardDTO(id, address, null, null, null, null, null, null, null, null);
+    }
+
+    private static List<Long> ids(List<HomeCardDTO> cards) {
+        return cards.stream().map(HomeCardDTO::getId).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ci_dominguez.ade_backend.index;
+
+import com.ci_dominguez.ade_backend.dto.HomeCardDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks the column store against the SQL comparisons it replaces: BETWEEN for cost ranges and >= for the minimum
+ * bedroom and bathroom filters, with NULL columns never matching
+ */
+class HomeColumnsTests {
+
+    private static final HomeColumns COLUMNS = HomeColumns.of(List.of(
+            home(1L, "250000.00", "3", "2.00"),
+            home(2L, "199999.99", "2", "1.50"),
+            home(3L, "300000.00", "4", "3.00"),
+            home(4L, null, "5", "4.00"),
+            home(5L, "250000.00", null, "2.50"),
+            home(6L, "150000.00", "3", null)));
+
+    @Test
+    void costRangeIncludesBothBoundsInCostOrder() {
+        assertEquals(List.of(2L, 1L, 5L, 3L), ids(COLUMNS.costRange(decimal("199999.99"), decimal("300000.00"))));
+        assertEquals(List.of(1L, 5L), ids(COLUMNS.costRange(decimal("250000"), decimal("250000"))));
+    }
+
+    @Test
+    void costRangeComparesFractionalBoundsExactly() {
+        assertEquals(List.of(2L), ids(COLUMNS.costRange(decimal("199999.985"), decimal("199999.995"))));
+        assertEquals(List.of(), ids(COLUMNS.costRange(decimal("199999.991"), decimal("199999.999"))));
+        assertEquals(List.of(1L, 5L), ids(COLUMNS.costRange(decimal("249999.999"), decimal("250000.001"))));
+    }
+
+    @Test
+    void costRangeNeverMatchesUnpricedHomes() {
+        assertEquals(List.of(6L, 2L, 1L, 5L, 3L), ids(COLUMNS.costRange(decimal("-1E30"), decimal("1E30"))));
+        assertEquals(List.of(), ids(COLUMNS.costRange(decimal("400000"), decimal("500000"))));
+    }
+
+    @Test
+    void atLeastIncludesTheMinimumAndSkipsMissingValues() {
+        assertEquals(List.of(1L, 3L, 4L), ids(COLUMNS.atLeast(decimal("3"), decimal("2.00"))));
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(COLUMNS.atLeast(BigDecimal.ZERO, BigDecimal.ZERO)));
+    }
+
+    @Test
+    void atLeastRoundsFractionalMinimumsUp() {
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(COLUMNS.atLeast(decimal("1.25"), decimal("1.25"))));
+        assertEquals(List.of(1L, 3L, 4L), ids(COLUMNS.atLeast(decimal("2.5"), decimal("1.501"))));
+        assertEquals(List.of(), ids(COLUMNS.atLeast(decimal("5.01"), decimal("0"))));
+    }
+
+    @Test
+    void withReplacesOrInsertsAHome() {
+        HomeColumns patched = COLUMNS.with(home(2L, "350000.00", "2", "1.50"))
+                .with(home(7L, "100000.00", "1", "1.00"));
+
+        assertEquals(7, patched.size());
+        assertEquals(List.of(7L, 6L, 1L, 5L, 3L, 2L), ids(patched.costRange(decimal("0"), decimal("1E9"))));
+        assertEquals(decimal("350000.00"), patched.card(2L).getCost());
+        assertEquals(decimal("199999.99"), COLUMNS.card(2L).getCost());
+    }
+
+    @Test
+    void withoutRemovesAHome() {
+        HomeColumns patched = COLUMNS.without(1L);
+
+        assertEquals(5, patched.size());
+        assertNull(patched.card(1L));
+        assertEquals(List.of(5L), ids(patched.costRange(decimal("250000"), decimal("250000"))));
+        assertEquals(List.of(3L, 4L), ids(patched.atLeast(decimal("3"), decimal("2"))));
+        assertSame(COLUMNS.card(3L), patched.card(3L));
+    }
+
+    /////////////////////Helpers/////////////////////
+    private static HomeCardDTO home(Long id, String cost, String bedrooms, String bathrooms) {
+        return new HomeCardDTO(id, id + " Test Street", decimal(cost), decimal(bedrooms), decimal(bathrooms),
+                null, null, null, null, 2000);
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static List<Long> ids(List<HomeCardDTO> cards) {
+        return cards.stream().map(HomeCardDTO::getId).toList();
+    }
+}
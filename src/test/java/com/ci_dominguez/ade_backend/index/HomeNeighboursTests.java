@@ -0,0 +1,105 @@
+package com.ci_dominguez.ade_backend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the neighbour table on catalogues small enough to rank by hand: attributes are compared as z-scores, a
+ * missing or unreadable value sits at the mean and the home type is one-hot encoded
+ */
+class HomeNeighboursTests {
+
+    @Test
+    void neighboursAreRankedNearestFirst() {
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, null, null, null, null, 2000, null),
+                row(2L, null, null, null, null, 2001, null),
+                row(3L, null, null, null, null, 2003, null),
+                row(4L, null, null, null, null, 2010, null)), 3);
+
+        assertEquals(4, neighbours.size());
+        assertEquals(List.of(2L, 3L, 4L), neighbours.neighboursOf(1L, 3));
+        assertEquals(List.of(2L, 1L, 4L), neighbours.neighboursOf(3L, 3));
+        assertEquals(List.of(3L, 2L, 1L), neighbours.neighboursOf(4L, 3));
+    }
+
+    @Test
+    void neighboursAreLimitedAndUnknownHomesHaveNone() {
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, null, null, null, null, 2000, null),
+                row(2L, null, null, null, null, 2001, null),
+                row(3L, null, null, null, null, 2003, null)), 5);
+
+        assertEquals(List.of(2L), neighbours.neighboursOf(1L, 1));
+        assertEquals(List.of(2L, 3L), neighbours.neighboursOf(1L, 10));
+        assertNull(neighbours.neighboursOf(9L, 3));
+    }
+
+    @Test
+    void attributesAreStandardizedSoNoneDominates() {
+        //Raw distances would pair home 1 with home 2, 50000 apart in cost against 2 bedrooms
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, "100000", "1", null, null, null, null),
+                row(2L, "100000", "3", null, null, null, null),
+                row(3L, "150000", "1", null, null, null, null),
+                row(4L, "400000", "5", null, null, null, null)), 3);
+
+        assertEquals(List.of(3L, 2L, 4L), neighbours.neighboursOf(1L, 3));
+        assertEquals(List.of(1L, 3L, 4L), neighbours.neighboursOf(2L, 3));
+        assertEquals(List.of(2L, 3L, 1L), neighbours.neighboursOf(4L, 3));
+    }
+
+    @Test
+    void missingValuesSitAtTheMean() {
+        //The years present average 2003.5
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, null, null, null, null, 2000, null),
+                row(2L, null, null, null, null, 2001, null),
+                row(3L, null, null, null, null, 2003, null),
+                row(4L, null, null, null, null, 2010, null),
+                row(5L, null, null, null, null, null, null)), 4);
+
+        assertEquals(List.of(3L, 2L, 1L, 4L), neighbours.neighboursOf(5L, 4));
+    }
+
+    @Test
+    void livableAreaTextIsParsedAndUnreadableTextSitsAtTheMean() {
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, null, null, null, "1,000 sqft", null, null),
+                row(2L, null, null, null, "3,627 sqft", null, null),
+                row(3L, null, null, null, "n/a", null, null),
+                row(4L, null, null, null, "3627", null, null)), 3);
+
+        assertEquals(List.of(4L, 3L, 1L), neighbours.neighboursOf(2L, 3));
+        assertEquals(List.of(2L, 4L, 1L), neighbours.neighboursOf(3L, 3));
+    }
+
+    @Test
+    void homeTypesAreOneHotEncodedIgnoringCase() {
+        //1950 and 2050 spread the years so one year apart is far closer than a different home type
+        HomeNeighbours neighbours = HomeNeighbours.of(List.of(
+                row(1L, null, null, null, null, 2000, "House"),
+                row(2L, null, null, null, null, 2001, " house "),
+                row(3L, null, null, null, null, 2000, "Condo"),
+                row(4L, null, null, null, null, 1950, "Townhouse"),
+                row(5L, null, null, null, null, 2050, "Townhouse")), 2);
+
+        assertEquals(List.of(2L, 3L), neighbours.neighboursOf(1L, 2));
+        assertEquals(List.of(1L, 3L), neighbours.neighboursOf(2L, 2));
+    }
+
+    /////////////////////Helpers/////////////////////
+    private static Object[] row(Long id, String cost, String bedrooms, String bathrooms, String livableArea,
+                                Integer yearBuilt, String homeType) {
+        return new Object[]{id, decimal(cost), decimal(bedrooms), decimal(bathrooms), livableArea, yearBuilt, homeType};
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every SQL statement Hibernate prepares, so tests can inspect the SQL the repositories really generate
+ * Hibernate instantiates it from the hibernate.session_factory.statement_inspector setting, hence the static log
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        statements.clear();
+    }
+
+    static List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+}
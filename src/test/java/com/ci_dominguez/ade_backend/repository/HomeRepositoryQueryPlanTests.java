@@ -0,0 +1,66 @@
+package com.ci_dominguez.ade_backend.repository;
+
+import com.ci_dominguez.ade_backend.model.enums.HomeSortKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Verifies that every column-based listing order can be read straight from an index
+ * The statement HomeRepositoryImpl generates is captured and explained against enough rows that a Sort node in
+ * the plan means no index matches its ORDER BY; the rows are rolled back with the test transaction
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ci_dominguez.ade_backend.repository.CapturingStatementInspector")
+@Transactional
+class HomeRepositoryQueryPlanTests {
+
+    private static final Pattern SORT_NODE = Pattern.compile("(^|->)\\s*(Incremental )?Sort\\b");
+
+    private static final int PAGE_SIZE = 20;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private HomeRepository homeRepository;
+
+    @BeforeEach
+    void seedHomes() {
+        entityManager.createNativeQuery("INSERT INTO homes (address, cost, bedrooms, bathrooms, created_at, updated_at) "
+                + "SELECT 'Plan ' || g, 100000 + (g * 7919) % 900000, g % 6, (g % 8) / 2.0, now(), now() "
+                + "FROM generate_series(1, 20000) g").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE homes").executeUpdate();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HomeSortKey.class, names = "RELEVANCE", mode = EnumSource.Mode.EXCLUDE)
+    void listingOrderIsServedByIndex(HomeSortKey sortKey) {
+        CapturingStatementInspector.clear();
+        homeRepository.findHomesWithFilterAndSort(null, sortKey, PageRequest.of(0, PAGE_SIZE));
+        List<String> listings = CapturingStatementInspector.getStatements().stream()
+                .filter(sql -> sql.contains(" order by "))
+                .toList();
+        assertEquals(1, listings.size(), () -> "Expected one listing statement but got " + listings);
+
+        //The only parameters of an unfiltered first page are its row limits
+        String sql = listings.get(0).replace("?", String.valueOf(PAGE_SIZE));
+        @SuppressWarnings("unchecked")
+        List<String> plan = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+
+        assertFalse(plan.stream().anyMatch(line -> SORT_NODE.matcher(line).find()),
+                () -> "Expected an index scan for sortBy=" + sortKey + " but got:\n" + sql + "\n" + String.join("\n", plan));
+    }
+}
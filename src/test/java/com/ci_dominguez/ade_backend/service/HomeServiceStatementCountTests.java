@@ -0,0 +1,76 @@
+package com.ci_dominguez.ade_backend.service;
+
+import com.ci_dominguez.ade_backend.dto.HomeDetailsDTO;
+import com.ci_dominguez.ade_backend.model.Home;
+import com.ci_dominguez.ade_backend.model.HomeDetails;
+import com.ci_dominguez.ade_backend.repository.HomeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while serving a home details request
+ */
+//Statistics are global, the test profile keeps the scheduled jobs from running statements during the test
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class HomeServiceStatementCountTests {
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private HomeRepository homeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long homeId;
+
+    @BeforeEach
+    void createHome() {
+        Home home = new Home();
+        home.setAddress("123 Statement Count Ln");
+        home.setCost(new BigDecimal("450000"));
+        home.setBedrooms(new BigDecimal("3"));
+        home.setBathrooms(new BigDecimal("2"));
+
+        HomeDetails details = new HomeDetails();
+        details.setHome(home);
+        details.setPhotoGallery(List.of("front.jpg", "kitchen.jpg"));
+        details.setWhatsSpecial(List.of("Corner lot"));
+        details.setFacts(Map.of("heating", "Forced air", "garageSpaces", 2));
+        home.setHomeDetails(details);
+
+        homeId = homeRepository.save(home).getId();
+    }
+
+    @AfterEach
+    void deleteHome() {
+        homeRepository.deleteById(homeId);
+    }
+
+    @Test
+    void homeDetailsAreLoadedWithASingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        HomeDetailsDTO homeDetails = homeService.getHomeDetailsById(homeId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of("front.jpg", "kitchen.jpg"), homeDetails.getPhotoGallery());
+        assertEquals("Forced air", homeDetails.getFacts().get("heating"));
+    }
+}